@@ -0,0 +1,21 @@
+package com.coders.boardgame.benchmark;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * 벤치마크용 emitter, SseConnection이 쓰는 프레임을 응답 없이 버림
+ * handler가 없는 emitter는 전송 데이터를 계속 쌓아두므로 인코딩 / 전송 큐 / drain 비용만 측정하기 위해 사용
+ */
+final class DiscardingSseEmitter extends SseEmitter {
+
+    DiscardingSseEmitter(long timeoutMs) {
+        super(timeoutMs);
+    }
+
+    @Override
+    public void send(Set<DataWithMediaType> items) {
+        // 버림
+    }
+}
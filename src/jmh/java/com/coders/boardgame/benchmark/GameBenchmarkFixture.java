@@ -0,0 +1,209 @@
+package com.coders.boardgame.benchmark;
+
+import com.coders.boardgame.domain.game.actor.RoomActorRegistry;
+import com.coders.boardgame.domain.game.cluster.InMemoryRoomStore;
+import com.coders.boardgame.domain.game.cluster.RoomOwnership;
+import com.coders.boardgame.domain.game.component.GameMetrics;
+import com.coders.boardgame.domain.game.component.GameRoomRegistry;
+import com.coders.boardgame.domain.game.component.PlayerExpiryWheel;
+import com.coders.boardgame.domain.game.component.PlayerInfoInterner;
+import com.coders.boardgame.domain.game.component.RoomIdAllocator;
+import com.coders.boardgame.domain.game.component.RoomSaveExecutor;
+import com.coders.boardgame.domain.game.component.RoomViewCache;
+import com.coders.boardgame.domain.game.component.SseAdmissionControl;
+import com.coders.boardgame.domain.game.dto.CreateRoomRequestDto;
+import com.coders.boardgame.domain.game.dto.GameRoomDto;
+import com.coders.boardgame.domain.game.dto.JoinRoomRequestDto;
+import com.coders.boardgame.domain.game.dto.PlayerSeats;
+import com.coders.boardgame.domain.game.dto.WaitingRoomDto;
+import com.coders.boardgame.domain.game.enums.SlowConsumerPolicy;
+import com.coders.boardgame.domain.game.journal.RoomJournal;
+import com.coders.boardgame.domain.game.service.GameRoomService;
+import com.coders.boardgame.domain.game.service.GameService;
+import com.coders.boardgame.domain.game.service.GameSseService;
+import com.coders.boardgame.domain.game.sse.InJvmRoomEventBus;
+import com.coders.boardgame.domain.game.sse.SseDeliveryLatencyRecorder;
+import com.coders.boardgame.domain.game.sse.SseDispatcher;
+import com.coders.boardgame.domain.game.sse.SseFrameEncoder;
+import com.coders.boardgame.domain.user.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스프링 컨텍스트 없이 게임 서비스들을 직접 조립한 벤치마크 환경
+ * 서비스 생성자가 바뀌면 여기만 맞추면 됨
+ */
+final class GameBenchmarkFixture {
+
+    private static final int REPLAY_BUFFER_SIZE = 128;
+    private static final String SCHOOL = "벤치마크초등학교";
+
+    final GameSseService gameSseService;
+    final GameRoomService gameRoomService;
+    final GameService gameService;
+
+    private final SseDispatcher sseDispatcher;
+    private final RoomActorRegistry roomActorRegistry;
+    private final RoomSaveExecutor roomSaveExecutor = new RoomSaveExecutor();
+    private final AtomicLong userIds = new AtomicLong();
+
+    GameBenchmarkFixture() {
+        ApplicationEventPublisher eventPublisher = event -> { };
+        GameMetrics gameMetrics = new GameMetrics(new SimpleMeterRegistry());
+
+        RoomOwnership roomOwnership = new RoomOwnership(0, "", eventPublisher);
+        InMemoryRoomStore roomStore = new InMemoryRoomStore();
+
+        // 전송 큐와 writer는 그대로 쓰고 마지막 emitter 쓰기만 버림
+        this.sseDispatcher = new SseDispatcher(64, SlowConsumerPolicy.COALESCE, 0, false, 0) {
+            @Override
+            public SseEmitter newEmitter(long timeoutMs) {
+                return new DiscardingSseEmitter(timeoutMs);
+            }
+        };
+        this.gameSseService = new GameSseService(eventPublisher, new SseFrameEncoder(new ObjectMapper()),
+                sseDispatcher, gameMetrics,
+                new SseDeliveryLatencyRecorder(50, 300_000), new InJvmRoomEventBus(), roomOwnership);
+        setField(gameSseService, "replayBufferSize", REPLAY_BUFFER_SIZE);
+
+        this.roomActorRegistry = new RoomActorRegistry(false);
+        this.gameRoomService = new GameRoomService(new GameRoomRegistry(Integer.MAX_VALUE, 5, 60_000),
+                gameSseService, eventPublisher, new PlayerExpiryWheel(5_000, 150_000), roomActorRegistry,
+                new RoomIdAllocator(0, roomStore), gameMetrics, new PlayerInfoInterner(20_000), roomStore,
+                roomOwnership, RoomJournal.disabled(), roomSaveExecutor,
+                new SseAdmissionControl(1e9, Integer.MAX_VALUE, 1e9, Integer.MAX_VALUE, gameMetrics),
+                new RoomViewCache(new ObjectMapper()));
+        this.gameService = new GameService(gameRoomService, gameSseService, roomActorRegistry);
+    }
+
+    long nextUserId() {
+        return userIds.incrementAndGet();
+    }
+
+    /**
+     * 방 생성
+     * @return roomId
+     */
+    String createRoom(long hostId, int totalPlayers) {
+        CreateRoomRequestDto request = new CreateRoomRequestDto("bench-" + hostId, totalPlayers, user(hostId), 10, 8);
+        return gameRoomService.createRoom(request, hostId).getRoomId();
+    }
+
+    /**
+     * 방 참가
+     */
+    WaitingRoomDto joinRoom(String roomId, long userId) {
+        return gameRoomService.joinRoom(roomId, userId, new JoinRoomRequestDto(user(userId), 10, 8));
+    }
+
+    /**
+     * 방장 포함 players명이 찬 방 생성
+     * @return roomId
+     */
+    String createFullRoom(int players) {
+        String roomId = createRoom(nextUserId(), players);
+        for (int i = 1; i < players; i++) {
+            joinRoom(roomId, nextUserId());
+        }
+        return roomId;
+    }
+
+    /**
+     * 방의 모든 플레이어를 응답을 버리는 emitter로 SSE 연결
+     */
+    void connectAll(String roomId) {
+        for (long playerId : room(roomId).getPlayers().playerIds()) {
+            gameSseService.connectToRoom(roomId, playerId, null);
+        }
+    }
+
+    /**
+     * 게임 시작 후 순번 배정, 2라운드 시작까지 진행
+     */
+    void startGame(String roomId) {
+        GameRoomDto room = room(roomId);
+        PlayerSeats players = room.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.setReady(seat, players.isOccupied(seat));
+        }
+        gameService.startGame(roomId, room.getHostId());
+
+        int usageTime = 30;
+        for (long playerId : players.playerIds()) {
+            gameService.setUsageTime(roomId, playerId, usageTime++);
+        }
+        gameService.startRound(roomId, 2, room.getHostId());
+    }
+
+    /**
+     * 인원이 다 차고 SSE 연결 후 2라운드까지 진행된 방 여러개 생성
+     * @return roomId 목록
+     */
+    String[] createStartedRooms(int rooms, int players) {
+        String[] roomIds = new String[rooms];
+        for (int i = 0; i < rooms; i++) {
+            roomIds[i] = createFullRoom(players);
+            connectAll(roomIds[i]);
+            startGame(roomIds[i]);
+        }
+        return roomIds;
+    }
+
+    GameRoomDto room(String roomId) {
+        return gameRoomService.getRoom(roomId);
+    }
+
+    List<Long> playerIds(String roomId) {
+        List<Long> playerIds = new ArrayList<>();
+        for (long playerId : room(roomId).getPlayers().playerIds()) {
+            playerIds.add(playerId);
+        }
+        return playerIds;
+    }
+
+    void resetUsageTimes(String roomId) {
+        PlayerSeats players = room(roomId).getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.setUsageTime(seat, 0);
+        }
+    }
+
+    /**
+     * 플레이어의 순번
+     */
+    int sequenceNumber(String roomId, Long playerId) {
+        PlayerSeats players = room(roomId).getPlayers();
+        return players.getSequenceNumber(players.seatOf(playerId));
+    }
+
+    void close() {
+        sseDispatcher.shutdown();
+        roomActorRegistry.shutdown();
+        roomSaveExecutor.shutdown();
+    }
+
+    private static UserDto user(long userId) {
+        UserDto user = new UserDto();
+        user.setSchool(new String(SCHOOL)); // 요청 본문을 역직렬화할 때처럼 매번 새 문자열
+        user.setName("player-" + userId);
+        user.setGender((int) (userId % 2));
+        return user;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("벤치마크 설정 실패: " + name, e);
+        }
+    }
+}
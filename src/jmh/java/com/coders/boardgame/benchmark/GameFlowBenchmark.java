@@ -0,0 +1,84 @@
+package com.coders.boardgame.benchmark;
+
+import com.coders.boardgame.domain.game.dto.WaitingRoomDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 진행 중 자주 호출되는 경로
+ * 모든 방은 인원이 다 찬 상태로 2라운드까지 진행되어 있고, 플레이어는 응답을 버리는 emitter로 SSE 연결되어 있음
+ * 매 호출마다 다음 방을 순서대로 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameFlowBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rooms;
+
+    @Param({"3", "4"})
+    private int players;
+
+    private GameBenchmarkFixture fixture;
+    private String[] roomIds;
+    private List<Long>[] playerIds;
+    private int next;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new GameBenchmarkFixture();
+        roomIds = fixture.createStartedRooms(rooms, players);
+        playerIds = new List[rooms];
+        for (int i = 0; i < rooms; i++) {
+            playerIds[i] = fixture.playerIds(roomIds[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    /**
+     * 전원 사용 시간 입력 후 순번 배정
+     */
+    @Benchmark
+    public int setUsageTimeOrdering() {
+        int index = nextIndex();
+        String roomId = roomIds[index];
+        fixture.resetUsageTimes(roomId);
+
+        int usageTime = 10;
+        for (Long playerId : playerIds[index]) {
+            fixture.gameService.setUsageTime(roomId, playerId, usageTime++);
+        }
+        return fixture.sequenceNumber(roomId, playerIds[index].get(0));
+    }
+
+    /**
+     * 대기방 정보 생성
+     */
+    @Benchmark
+    public WaitingRoomDto buildWaitingRoomDto() {
+        return fixture.gameRoomService.buildWaitingRoomDto(fixture.room(roomIds[nextIndex()]));
+    }
+
+    /**
+     * 방 전체 SSE 이벤트 전송 (직렬화 및 연결별 전송 큐 적재)
+     */
+    @Benchmark
+    public void sendRoomEvent() {
+        fixture.gameSseService.sendRoomEvent(roomIds[nextIndex()], "time-extended", Map.of("additionalTime", 30));
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (next + 1) % rooms;
+        return index;
+    }
+}
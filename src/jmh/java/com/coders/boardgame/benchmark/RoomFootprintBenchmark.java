@@ -0,0 +1,70 @@
+package com.coders.boardgame.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 살아있는 방 하나가 차지하는 힙 크기
+ * rooms개의 가득 찬 대기방(SSE 연결 없음)을 만들고 GC 후 늘어난 힙을 방 수로 나눔
+ * 결과의 bytesPerRoom 값을 변경 전후 커밋에서 각각 실행해 비교 (./gradlew jmh -PjmhIncludes=RoomFootprintBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RoomFootprintBenchmark {
+
+    @Param({"100000"})
+    private int rooms;
+
+    @Param({"3", "4"})
+    private int players;
+
+    /**
+     * 측정 결과 (JMH 결과에 보조 지표로 출력)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerRoom;
+    }
+
+    @Benchmark
+    public String[] liveRooms(Footprint footprint) throws InterruptedException {
+        GameBenchmarkFixture fixture = new GameBenchmarkFixture();
+        try {
+            long before = usedHeapAfterGc();
+            String[] roomIds = new String[rooms];
+            for (int i = 0; i < rooms; i++) {
+                roomIds[i] = fixture.createFullRoom(players);
+            }
+            long after = usedHeapAfterGc();
+
+            footprint.bytesPerRoom = (after - before) / rooms;
+            return roomIds;
+        } finally {
+            fixture.close();
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        // 한번의 GC로 다 정리되지 않을 수 있어 값이 더 줄지 않을 때까지 반복
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,79 @@
+package com.coders.boardgame.benchmark;
+
+import com.coders.boardgame.domain.game.dto.WaitingRoomDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 생성 / 참가 / 퇴장 비용
+ * rooms개의 방이 이미 있는 상태에서 측정해 방 수에 따른 차이를 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomLifecycleBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rooms;
+
+    @Param({"3", "4"})
+    private int players;
+
+    private GameBenchmarkFixture fixture;
+    private String[] openRoomIds; // 한 자리가 비어있는 방
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new GameBenchmarkFixture();
+        openRoomIds = new String[rooms];
+        for (int i = 0; i < rooms; i++) {
+            String roomId = fixture.createRoom(fixture.nextUserId(), players);
+            for (int j = 2; j < players; j++) {
+                fixture.joinRoom(roomId, fixture.nextUserId());
+            }
+            openRoomIds[i] = roomId;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    /**
+     * 방 생성 후 방장이 나가서 방 삭제
+     */
+    @Benchmark
+    public String createAndDeleteRoom() {
+        long hostId = fixture.nextUserId();
+        String roomId = fixture.createRoom(hostId, players);
+        fixture.gameRoomService.leaveRoom(roomId, hostId, true);
+        return roomId;
+    }
+
+    /**
+     * 기존 방에 참가 후 퇴장
+     */
+    @Benchmark
+    public WaitingRoomDto joinAndLeave() {
+        String roomId = openRoomIds[next++ % openRoomIds.length];
+        long userId = fixture.nextUserId();
+        WaitingRoomDto waitingRoom = fixture.joinRoom(roomId, userId);
+        fixture.gameRoomService.leaveRoom(roomId, userId, true);
+        return waitingRoom;
+    }
+
+    /**
+     * 방 생성, 인원 채우기, 전원 퇴장까지 한 방의 전체 수명
+     */
+    @Benchmark
+    public String fullRoomLifecycle() {
+        String roomId = fixture.createFullRoom(players);
+        for (Long playerId : fixture.playerIds(roomId)) {
+            fixture.gameRoomService.leaveRoom(roomId, playerId, true);
+        }
+        return roomId;
+    }
+}
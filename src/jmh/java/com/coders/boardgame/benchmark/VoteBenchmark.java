@@ -0,0 +1,69 @@
+package com.coders.boardgame.benchmark;
+
+import com.coders.boardgame.domain.game.dto.GameRoomDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표부터 결과 처리(processVoteResults, 다음 턴 이동)까지의 비용
+ * agree는 퍼즐 획득 후 다음 턴, disagree는 재투표와 획득 실패 후 다음 턴을 번갈아 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoteBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rooms;
+
+    @Param({"3", "4"})
+    private int players;
+
+    @Param({"agree", "disagree"})
+    private String vote;
+
+    private GameBenchmarkFixture fixture;
+    private String[] roomIds;
+    private List<Long>[] playerIds;
+    private int next;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new GameBenchmarkFixture();
+        roomIds = fixture.createStartedRooms(rooms, players);
+        playerIds = new List[rooms];
+        for (int i = 0; i < rooms; i++) {
+            playerIds[i] = fixture.playerIds(roomIds[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    /**
+     * 발화자를 제외한 인원수만큼 투표해서 결과 처리까지 진행
+     * 게임이 끝나지 않도록 퍼즐 조각이 거의 모이면 다시 0으로 맞춤
+     */
+    @Benchmark
+    public int castVotesUntilResult() {
+        int index = next;
+        next = (next + 1) % rooms;
+
+        String roomId = roomIds[index];
+        GameRoomDto room = fixture.room(roomId);
+        if (room.getCurrentPuzzlePieces() >= room.getTotalPuzzlePieces() - 1) {
+            room.setCurrentPuzzlePieces(0);
+        }
+
+        List<Long> voters = playerIds[index];
+        for (int i = 0; i < players - 1; i++) {
+            fixture.gameService.castVote(roomId, voters.get(i), vote);
+        }
+        return room.getCurrentTurn();
+    }
+}
@@ -0,0 +1,77 @@
+package com.coders.boardgame.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 노드가 동시에 유지할 수 있는 SSE 연결 수 측정
+ * 플레이어마다 방을 하나씩 만들고 SSE로 연결한 뒤 "connected" 이벤트를 받은 연결 수, 소요 시간, 스레드 수, 힙 사용량을 출력
+ * 연결 수는 -Dloadtest.sse.clients 로 조정 (기본 2000)
+ */
+abstract class AbstractSseCapacityLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 리포트에 표시할 실행 모드 이름
+     */
+    protected abstract String modeName();
+
+    @Test
+    void holdConcurrentSseClients() throws Exception {
+        int clients = Integer.getInteger("loadtest.sse.clients", 2000);
+        long timeoutSeconds = Long.getLong("loadtest.sse.timeout-seconds", 120);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String baseUrl = "http://localhost:" + port;
+
+        CountDownLatch connected = new CountDownLatch(clients);
+        List<SseLineSubscriber> subscribers = new ArrayList<>(clients);
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < clients; i++) {
+            GameApiClient client = new GameApiClient(httpClient, baseUrl, objectMapper);
+            Map<String, Object> userInfo = Map.of("school", "부하테스트초등학교", "name", "player-" + i, "gender", i % 2);
+            client.signUp("부하테스트초등학교", "player-" + i, i % 2);
+            String roomId = client.createRoom("capacity-" + i, 3, userInfo);
+            subscribers.add(client.connectSse(roomId, message -> {
+                if ("connected".equals(message.event())) {
+                    connected.countDown();
+                }
+            }));
+        }
+
+        boolean allConnected = connected.await(timeoutSeconds, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long held = clients - connected.getCount();
+        int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+        long heapUsedMb = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+
+        System.out.printf("[SSE 동시 연결] mode=%s, requested=%d, held=%d, elapsedMs=%d, threads=%d->%d, heapUsedMb=%d%n",
+                modeName(), clients, held, elapsedMs, threadsBefore, threadsAfter, heapUsedMb);
+
+        subscribers.forEach(SseLineSubscriber::cancel);
+        assertThat(allConnected).as("%s 모드에서 %d개 중 %d개 연결 유지", modeName(), clients, held).isTrue();
+    }
+}
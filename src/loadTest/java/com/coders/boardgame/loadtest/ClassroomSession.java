@@ -0,0 +1,214 @@
+package com.coders.boardgame.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 한 교실(방)의 게임 한판을 실제 API로 진행하는 시나리오
+ * 회원가입 -> 방 생성/참가 -> SSE 연결 -> 게임 시작 -> 사용 시간 입력 -> 2라운드 -> (카드 부여, 말하기 종료, 투표)를 game-completed까지 반복 -> 다시하기
+ * 각 요청의 응답 시간과, 요청 시작부터 방 인원 각자가 해당 SSE 이벤트를 받기까지의 시간을 기록
+ */
+public class ClassroomSession {
+
+    private static final String SCHOOL = "부하테스트초등학교";
+
+    private final int sessionIndex;
+    private final int players;
+    private final long eventTimeoutSeconds;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder requestLatency;
+    private final LatencyRecorder eventLag;
+
+    private final List<GameApiClient> clients = new ArrayList<>();
+    private final List<SseLineSubscriber> subscribers = new ArrayList<>();
+    private final Map<String, Expectation> expectations = new ConcurrentHashMap<>();
+    private String roomId;
+
+    /**
+     * 방 인원 모두가 받아야 하는 이벤트 대기 상태
+     */
+    private record Expectation(long armedAtNanos, CountDownLatch received, List<SseMessage> messages) {
+    }
+
+    public ClassroomSession(int sessionIndex, int players, long eventTimeoutSeconds,
+                            HttpClient httpClient, String baseUrl, ObjectMapper objectMapper,
+                            LatencyRecorder requestLatency, LatencyRecorder eventLag) {
+        this.sessionIndex = sessionIndex;
+        this.players = players;
+        this.eventTimeoutSeconds = eventTimeoutSeconds;
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.requestLatency = requestLatency;
+        this.eventLag = eventLag;
+    }
+
+    /**
+     * 게임 한판 진행
+     * @return 진행한 턴 수
+     */
+    public int run() throws Exception {
+        try {
+            joinClassroom();
+            connectAll();
+            return playGame();
+        } finally {
+            subscribers.forEach(SseLineSubscriber::cancel);
+        }
+    }
+
+    private void joinClassroom() throws Exception {
+        for (int i = 0; i < players; i++) {
+            GameApiClient client = new GameApiClient(httpClient, baseUrl, objectMapper);
+            String name = "s" + sessionIndex + "-p" + i;
+            int gender = i % 2;
+            requestLatency.time("POST /api/users", () -> client.signUp(SCHOOL, name, gender));
+            clients.add(client);
+        }
+
+        GameApiClient host = clients.get(0);
+        roomId = requestLatency.time("POST /api/rooms",
+                () -> host.createRoom("classroom-" + sessionIndex, players, userInfo(0)));
+
+        for (int i = 1; i < players; i++) {
+            GameApiClient client = clients.get(i);
+            Map<String, Object> userInfo = userInfo(i);
+            requestLatency.time("POST /api/rooms/{roomId}/players", () -> {
+                client.joinRoom(roomId, userInfo);
+                return null;
+            });
+        }
+    }
+
+    private void connectAll() throws Exception {
+        Expectation connected = expect("connected");
+        for (GameApiClient client : clients) {
+            subscribers.add(client.connectSse(roomId, this::onMessage));
+        }
+        await("connected", connected);
+    }
+
+    private int playGame() throws Exception {
+        GameApiClient host = clients.get(0);
+
+        triggerAndAwait("game-started", "POST /api/games/{roomId}/round/1/state",
+                () -> host.send("POST", "/api/games/" + roomId + "/round/1/state", null));
+
+        // 사용 시간 입력, 마지막 입력에서 순번 배정 이벤트 발생
+        for (int i = 0; i < players - 1; i++) {
+            GameApiClient client = clients.get(i);
+            int usageTime = 30 + i * 10;
+            requestLatency.time("POST /api/games/{roomId}/round/1/usage-time",
+                    () -> client.send("POST", "/api/games/" + roomId + "/round/1/usage-time?usageTime=" + usageTime, null));
+        }
+        GameApiClient last = clients.get(players - 1);
+        List<SseMessage> orderMessages = triggerAndAwait("player-order-assigned", "POST /api/games/{roomId}/round/1/usage-time",
+                () -> last.send("POST", "/api/games/" + roomId + "/round/1/usage-time?usageTime=" + (30 + (players - 1) * 10), null));
+        Map<String, Object> order = host.readJson(orderMessages.get(0).data());
+
+        triggerAndAwait("round-2-started", "POST /api/games/{roomId}/round/2/state",
+                () -> host.send("POST", "/api/games/" + roomId + "/round/2/state", null));
+
+        int turn = 1;
+        int turns = 0;
+        while (true) {
+            turns++;
+            GameApiClient speaker = clientWithSequence(order, turn);
+
+            triggerAndAwait("card-assigned", "POST /api/games/{roomId}/card/{cardType}",
+                    () -> speaker.send("POST", "/api/games/" + roomId + "/card/picture?maxId=30", null));
+            Expectation timerStart = expect("timer-start");
+            triggerAndAwait("card-assigned", "POST /api/games/{roomId}/card/{cardType}",
+                    () -> speaker.send("POST", "/api/games/" + roomId + "/card/text?maxId=30", null));
+            await("timer-start", timerStart);
+
+            triggerAndAwait("speaking-end", "POST /api/games/{roomId}/speaking/end",
+                    () -> speaker.send("POST", "/api/games/" + roomId + "/speaking/end", null));
+
+            // 발화자를 제외한 인원 투표, 마지막 투표에서 결과 이벤트 발생
+            List<GameApiClient> voters = new ArrayList<>(clients);
+            voters.remove(speaker);
+            for (int i = 0; i < voters.size() - 1; i++) {
+                GameApiClient voter = voters.get(i);
+                requestLatency.time("POST /api/games/{roomId}/votes",
+                        () -> voter.send("POST", "/api/games/" + roomId + "/votes", Map.of("vote", "agree")));
+            }
+            GameApiClient lastVoter = voters.get(voters.size() - 1);
+            List<SseMessage> results = triggerAndAwait("vote-result", "POST /api/games/{roomId}/votes",
+                    () -> lastVoter.send("POST", "/api/games/" + roomId + "/votes", Map.of("vote", "agree")));
+
+            Map<String, Object> result = host.readJson(results.get(0).data());
+            if ("game-completed".equals(result.get("result"))) {
+                break;
+            }
+            turn = (turn % players) + 1;
+        }
+
+        for (GameApiClient client : clients) {
+            requestLatency.time("POST /api/games/{roomId}/retry",
+                    () -> client.send("POST", "/api/games/" + roomId + "/retry", null));
+        }
+        return turns;
+    }
+
+    private GameApiClient clientWithSequence(Map<String, Object> order, int sequence) {
+        for (GameApiClient client : clients) {
+            Object assigned = order.get(String.valueOf(client.getUserId()));
+            if (assigned instanceof Number number && number.intValue() == sequence) {
+                return client;
+            }
+        }
+        throw new IllegalStateException("순번 " + sequence + "인 플레이어가 없습니다: " + order);
+    }
+
+    /**
+     * 이벤트 대기를 등록한 뒤 요청을 보내고 방 인원 전원이 이벤트를 받을 때까지 대기
+     * @return 수신한 이벤트 목록
+     */
+    private List<SseMessage> triggerAndAwait(String eventName, String endpoint, LatencyRecorder.TimedCall<?> call) throws Exception {
+        Expectation expectation = expect(eventName);
+        requestLatency.time(endpoint, call);
+        return await(eventName, expectation);
+    }
+
+    private Expectation expect(String eventName) {
+        Expectation expectation = new Expectation(System.nanoTime(), new CountDownLatch(players),
+                Collections.synchronizedList(new ArrayList<>()));
+        expectations.put(eventName, expectation);
+        return expectation;
+    }
+
+    private List<SseMessage> await(String eventName, Expectation expectation) throws Exception {
+        if (!expectation.received().await(eventTimeoutSeconds, TimeUnit.SECONDS)) {
+            throw new TimeoutException("SSE 이벤트 수신 시간 초과: roomId=" + roomId + ", event=" + eventName
+                    + ", received=" + (players - expectation.received().getCount()) + "/" + players);
+        }
+        expectations.remove(eventName, expectation);
+        return expectation.messages();
+    }
+
+    private void onMessage(SseMessage message) {
+        Expectation expectation = expectations.get(message.event());
+        if (expectation == null || expectation.received().getCount() == 0) {
+            return;
+        }
+        eventLag.record(message.event(), message.receivedAtNanos() - expectation.armedAtNanos());
+        expectation.messages().add(message);
+        expectation.received().countDown();
+    }
+
+    private Map<String, Object> userInfo(int playerIndex) {
+        return Map.of("school", SCHOOL, "name", "s" + sessionIndex + "-p" + playerIndex, "gender", playerIndex % 2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.coders.boardgame.loadtest;
+
+import com.coders.boardgame.BoardgameBackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 교실이 동시에 게임 한판씩 진행하는 부하 테스트
+ * 방 수는 -Dloadtest.session.rooms (기본 100, 100 ~ 10000), 방 인원은 -Dloadtest.session.players (기본 4)
+ * 엔드포인트별 응답 시간과 SSE 이벤트별 전달 지연(요청 시작 ~ 각 인원 수신)의 p50 / p99를 출력
+ */
+@ActiveProfiles("loadtest")
+@SpringBootTest(classes = BoardgameBackendApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ClassroomSessionLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void playConcurrentClassroomSessions() throws Exception {
+        int rooms = Integer.getInteger("loadtest.session.rooms", 100);
+        int players = Integer.getInteger("loadtest.session.players", 4);
+        long eventTimeoutSeconds = Long.getLong("loadtest.session.event-timeout-seconds", 60);
+        long timeoutMinutes = Long.getLong("loadtest.session.timeout-minutes", 30);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String baseUrl = "http://localhost:" + port;
+        LatencyRecorder requestLatency = new LatencyRecorder();
+        LatencyRecorder eventLag = new LatencyRecorder();
+
+        long start = System.nanoTime();
+        List<Future<Integer>> results = new ArrayList<>(rooms);
+        try (ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < rooms; i++) {
+                ClassroomSession session = new ClassroomSession(i, players, eventTimeoutSeconds,
+                        httpClient, baseUrl, objectMapper, requestLatency, eventLag);
+                results.add(sessions.submit(session::run));
+            }
+            sessions.shutdown();
+            sessions.awaitTermination(timeoutMinutes, TimeUnit.MINUTES);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int completed = 0;
+        int turns = 0;
+        List<String> failures = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            try {
+                turns += result.get(0, TimeUnit.SECONDS);
+                completed++;
+            } catch (Exception e) {
+                if (failures.size() < 10) {
+                    failures.add(String.valueOf(e.getCause() != null ? e.getCause() : e));
+                }
+            }
+        }
+
+        System.out.printf("%n[교실 세션 부하] rooms=%d, players=%d, completed=%d, turns=%d, elapsedMs=%d%n",
+                rooms, players, completed, turns, elapsedMs);
+        requestLatency.print("엔드포인트 응답 시간");
+        eventLag.print("SSE 이벤트 전달 지연 (요청 시작 ~ 수신)");
+        failures.forEach(failure -> System.out.println("실패: " + failure));
+
+        assertThat(completed).as("%d개 방 중 %d개 완료", rooms, completed).isEqualTo(rooms);
+    }
+}
@@ -0,0 +1,137 @@
+package com.coders.boardgame.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 실제 REST / SSE API를 호출하는 플레이어 한명의 클라이언트
+ * 회원가입 응답의 JSESSIONID 쿠키를 이후 요청에 사용
+ */
+public class GameApiClient {
+
+    private static final TypeReference<Map<String, Object>> JSON_MAP = new TypeReference<>() { };
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+
+    private String sessionCookie;
+    private Long userId;
+
+    public GameApiClient(HttpClient httpClient, String baseUrl, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 회원가입 후 세션 쿠키 저장
+     * @return userId
+     */
+    public Long signUp(String school, String name, int gender) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", "/api/users", Map.of("school", school, "name", name, "gender", gender));
+
+        sessionCookie = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                .map(cookie -> cookie.indexOf(';') > 0 ? cookie.substring(0, cookie.indexOf(';')) : cookie)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("회원가입 응답에 세션 쿠키가 없습니다."));
+
+        userId = ((Number) readMap(response).get("userId")).longValue();
+        return userId;
+    }
+
+    /**
+     * 방 생성
+     * @return roomId
+     */
+    public String createRoom(String roomName, int totalPlayers, Map<String, Object> hostInfo) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", "/api/rooms", Map.of(
+                "roomName", roomName,
+                "totalPlayers", totalPlayers,
+                "hostInfo", hostInfo,
+                "surveyScore", 10,
+                "avatarMaxId", 8
+        ));
+        return (String) readMap(response).get("roomId");
+    }
+
+    /**
+     * 방 참가
+     */
+    public void joinRoom(String roomId, Map<String, Object> userInfo) throws IOException, InterruptedException {
+        send("POST", "/api/rooms/" + roomId + "/players", Map.of(
+                "userInfo", userInfo,
+                "surveyScore", 10,
+                "avatarMaxId", 8
+        ));
+    }
+
+    /**
+     * JSON 응답을 Map으로 변환
+     */
+    public Map<String, Object> readJson(String body) throws IOException {
+        return objectMapper.readValue(body, JSON_MAP);
+    }
+
+    /**
+     * 방 SSE 연결, 이벤트는 listener로 전달됨
+     * @return 연결 해제에 사용할 구독자
+     */
+    public SseLineSubscriber connectSse(String roomId, Consumer<SseMessage> listener) {
+        SseLineSubscriber subscriber = new SseLineSubscriber(listener);
+        HttpRequest request = baseRequest("/api/sse/rooms/connect/" + roomId)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        CompletableFuture<HttpResponse<Void>> ignored =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber));
+        return subscriber;
+    }
+
+    /**
+     * JSON 요청 전송, 2xx가 아니면 예외
+     */
+    public HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+
+        HttpRequest request = baseRequest(path)
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(method + " " + path + " 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder baseRequest(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Forwarded-Proto", "https");
+        if (sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+        return builder;
+    }
+
+    private Map<String, Object> readMap(HttpResponse<String> response) throws IOException {
+        return objectMapper.readValue(response.body(), JSON_MAP);
+    }
+}
@@ -0,0 +1,81 @@
+package com.coders.boardgame.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름별 지연 시간 수집 후 p50 / p99 출력
+ */
+public class LatencyRecorder {
+
+    private final Map<String, List<Long>> samples = new ConcurrentSkipListMap<>();
+
+    /**
+     * 지연 시간 기록
+     * @param name 엔드포인트 또는 이벤트 이름
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(String name, long nanos) {
+        List<Long> values = samples.computeIfAbsent(name, k -> new ArrayList<>());
+        synchronized (values) {
+            values.add(nanos);
+        }
+    }
+
+    /**
+     * 요청을 실행하고 소요 시간 기록
+     * @param name 엔드포인트 이름
+     * @param call 실행할 요청
+     * @return 요청 결과
+     */
+    public <T> T time(String name, TimedCall<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 이름별 count, p50, p99, max 출력
+     * @param title 표 제목
+     */
+    public void print(String title) {
+        System.out.printf("%n[%s]%n", title);
+        System.out.printf("%-45s %8s %10s %10s %10s%n", "name", "count", "p50(ms)", "p99(ms)", "max(ms)");
+        samples.forEach((name, values) -> {
+            long[] sorted;
+            synchronized (values) {
+                sorted = values.stream().mapToLong(Long::longValue).toArray();
+            }
+            if (sorted.length == 0) {
+                return;
+            }
+            Arrays.sort(sorted);
+            System.out.printf("%-45s %8d %10.2f %10.2f %10.2f%n", name, sorted.length,
+                    toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.99)), toMillis(sorted[sorted.length - 1]));
+        });
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 시간을 잴 요청
+     */
+    @FunctionalInterface
+    public interface TimedCall<T> {
+        T call() throws Exception;
+    }
+}
@@ -0,0 +1,83 @@
+package com.coders.boardgame.loadtest;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * text/event-stream 응답을 줄 단위로 받아 이벤트로 조립하는 구독자
+ * 스레드를 점유하지 않으므로 클라이언트 한 프로세스에서 수천 개의 연결을 유지할 수 있음
+ */
+public class SseLineSubscriber implements Flow.Subscriber<String> {
+
+    private final Consumer<SseMessage> listener;
+
+    private Flow.Subscription subscription;
+    private String event;
+    private StringBuilder data;
+
+    public SseLineSubscriber(Consumer<SseMessage> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (line.isEmpty()) {
+            dispatch();
+            return;
+        }
+        if (line.startsWith(":")) {
+            return; // 주석(heartbeat)
+        }
+
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        String value = colon < 0 ? "" : line.substring(colon + 1);
+        if (value.startsWith(" ")) {
+            value = value.substring(1);
+        }
+
+        if ("event".equals(field)) {
+            event = value;
+        } else if ("data".equals(field)) {
+            if (data == null) {
+                data = new StringBuilder(value);
+            } else {
+                data.append('\n').append(value);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        event = null;
+        data = null;
+    }
+
+    @Override
+    public void onComplete() {
+        dispatch();
+    }
+
+    /**
+     * 연결 해제
+     */
+    public void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void dispatch() {
+        if (data != null) {
+            listener.accept(new SseMessage(event != null ? event : "message", data.toString(), System.nanoTime()));
+        }
+        event = null;
+        data = null;
+    }
+}
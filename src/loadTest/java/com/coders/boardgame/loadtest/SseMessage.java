@@ -0,0 +1,10 @@
+package com.coders.boardgame.loadtest;
+
+/**
+ * 부하 클라이언트가 수신한 SSE 이벤트
+ * @param event 이벤트 이름
+ * @param data 데이터 (여러 줄이면 개행으로 합침)
+ * @param receivedAtNanos 수신 시각 (System.nanoTime)
+ */
+public record SseMessage(String event, String data, long receivedAtNanos) {
+}
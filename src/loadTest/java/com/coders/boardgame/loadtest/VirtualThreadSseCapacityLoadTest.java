@@ -0,0 +1,17 @@
+package com.coders.boardgame.loadtest;
+
+import com.coders.boardgame.BoardgameBackendApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("loadtest")
+@SpringBootTest(classes = BoardgameBackendApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadSseCapacityLoadTest extends AbstractSseCapacityLoadTest {
+
+    @Override
+    protected String modeName() {
+        return "virtual-threads";
+    }
+}
@@ -0,0 +1,13 @@
+package com.coders.boardgame.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 게임 이벤트 리스너 비동기 실행 설정
+ * spring.threads.virtual.enabled=true 일 때 applicationTaskExecutor가 가상 스레드를 사용
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,90 @@
+package com.coders.boardgame.config;
+
+import com.coders.boardgame.domain.game.cluster.HazelcastRoomMembership;
+import com.coders.boardgame.domain.game.cluster.HazelcastRoomStore;
+import com.coders.boardgame.domain.game.cluster.InMemoryRoomStore;
+import com.coders.boardgame.domain.game.cluster.RoomOwnership;
+import com.coders.boardgame.domain.game.cluster.RoomStore;
+import com.coders.boardgame.domain.game.sse.HazelcastRoomEventBus;
+import com.coders.boardgame.domain.game.sse.InJvmRoomEventBus;
+import com.coders.boardgame.domain.game.sse.RoomEventBus;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.HazelcastInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+
+/**
+ * 방 저장소 / 클러스터 설정
+ * game.cluster.store=memory(기본) 이면 노드 하나, hazelcast 이면 내장 Hazelcast로 노드끼리 방 스냅샷 / 방 이벤트 / 세션을 공유
+ * (Hazelcast 인스턴스는 아래 Config 빈으로 스프링 부트가 생성하고, spring-session-hazelcast가 세션 저장소로 사용)
+ */
+@Configuration
+public class ClusterConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "game.cluster.store", havingValue = "memory", matchIfMissing = true)
+    static class InMemoryClusterConfig {
+
+        @Bean
+        public RoomStore roomStore() {
+            return new InMemoryRoomStore();
+        }
+
+        @Bean
+        public RoomEventBus roomEventBus() {
+            return new InJvmRoomEventBus();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "game.cluster.store", havingValue = "hazelcast")
+    static class HazelcastClusterConfig {
+
+        @Bean
+        public Config hazelcastConfig(@Value("${game.cluster.name:suhat}") String clusterName,
+                                      @Value("${game.cluster.hazelcast.port:5701}") int port,
+                                      @Value("${game.cluster.hazelcast.members:127.0.0.1}") String members,
+                                      @Value("${game.node-id:0}") int nodeId,
+                                      @Value("${game.cluster.advertised-url:}") String advertisedUrl) {
+            Config config = new Config();
+            config.setClusterName(clusterName);
+            config.getNetworkConfig().setPort(port).setPortAutoIncrement(true);
+
+            // 멀티캐스트 대신 지정한 주소로만 노드 탐색 (로컬에서 여러 개 띄울 때는 기본값 127.0.0.1)
+            JoinConfig join = config.getNetworkConfig().getJoin();
+            join.getMulticastConfig().setEnabled(false);
+            join.getTcpIpConfig().setEnabled(true)
+                    .setMembers(Arrays.stream(members.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList());
+
+            config.getMemberAttributeConfig()
+                    .setAttribute(HazelcastRoomMembership.NODE_ID_ATTRIBUTE, String.valueOf(nodeId))
+                    .setAttribute(HazelcastRoomMembership.NODE_URL_ATTRIBUTE, advertisedUrl);
+
+            // 노드 하나가 죽어도 방 스냅샷 / 방 코드 예약 순번이 남도록 백업 1개
+            config.getMapConfig(HazelcastRoomStore.MAP_NAME).setBackupCount(1);
+            config.getMapConfig(HazelcastRoomStore.ROOM_ID_MAP_NAME).setBackupCount(1);
+            return config;
+        }
+
+        @Bean
+        public RoomStore roomStore(HazelcastInstance hazelcastInstance) {
+            return new HazelcastRoomStore(hazelcastInstance);
+        }
+
+        @Bean
+        public RoomEventBus roomEventBus(HazelcastInstance hazelcastInstance) {
+            return new HazelcastRoomEventBus(hazelcastInstance);
+        }
+
+        @Bean
+        public HazelcastRoomMembership hazelcastRoomMembership(HazelcastInstance hazelcastInstance,
+                                                               RoomOwnership roomOwnership) {
+            return new HazelcastRoomMembership(hazelcastInstance, roomOwnership);
+        }
+    }
+}
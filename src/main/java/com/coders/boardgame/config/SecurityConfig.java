@@ -6,17 +6,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Configuration
 @EnableWebSecurity
@@ -37,6 +41,14 @@ public class SecurityConfig {
                 "/api/users","/api/users/session", "/api/schools"
         };
 
+        // 모니터링 / 운영 경로 (로컬에서 scrape / 배포 스크립트가 호출할때만 허용)
+        String[] actuator = {
+                "/actuator/health", "/actuator/prometheus", "/actuator/sselatency", "/actuator/sselatency/**",
+                "/actuator/drain"
+        };
+        String[] sessionExcluded = Stream.concat(Arrays.stream(permitted), Arrays.stream(actuator))
+                .toArray(String[]::new);
+
         http
                 .requiresChannel(channel -> channel
                         .anyRequest().requiresSecure() // 모든 요청을 HTTPS로 강제 리다이렉트
@@ -45,6 +57,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)                              //  CSRF 보호 비활성화 (API 사용 시 보통 비활성화)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(permitted).permitAll()   // 회원가입 및 학교 정보 검색 경로는 인증없이 접근 가능
+                        .requestMatchers(actuator).access(new WebExpressionAuthorizationManager(
+                                "hasIpAddress('127.0.0.1') or hasIpAddress('::1')"))  // 메트릭은 로컬에서만
                         .anyRequest().authenticated()                   // 그 외 모든 요청은 인증 필요
                 )
                 .exceptionHandling(exception -> exception
@@ -52,7 +66,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)       // 세션 정책 설정
                 )
-                .addFilterBefore(new SessionAuthenticationFilter(permitted, customAuthenticationEntryPoint), UsernamePasswordAuthenticationFilter.class); // 세션 인증 필터
+                .addFilterBefore(new SessionAuthenticationFilter(sessionExcluded, customAuthenticationEntryPoint), UsernamePasswordAuthenticationFilter.class); // 세션 인증 필터
 
         return http.build();
     }
@@ -63,6 +77,7 @@ public class SecurityConfig {
         corsConfiguration.setAllowedOrigins(List.of(frontendUrl, "http://localhost"));
         corsConfiguration.setAllowedMethods(List.of("GET", "POST", "DELETE", "OPTIONS"));
         corsConfiguration.setAllowedHeaders(List.of("*"));
+        corsConfiguration.setExposedHeaders(List.of(HttpHeaders.ETAG)); // 방 조회 응답 버전 (If-None-Match로 돌려보냄)
         corsConfiguration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
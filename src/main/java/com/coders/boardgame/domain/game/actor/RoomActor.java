@@ -0,0 +1,98 @@
+package com.coders.boardgame.domain.game.actor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방 하나의 명령을 순서대로 실행하는 actor
+ * 명령은 mailbox에 쌓이고, 공용 executor에서 한번에 하나의 작업만 mailbox를 비우므로 방 상태 변경이 직렬화됨
+ */
+@Slf4j
+final class RoomActor {
+
+    // 한번의 실행에서 처리할 최대 명령 수 (다른 방과 executor를 나눠쓰기 위함)
+    private static final int MAX_COMMANDS_PER_RUN = 32;
+
+    // 현재 스레드가 실행중인 actor (같은 방 재진입 판단용)
+    private static final ThreadLocal<RoomActor> CURRENT = new ThreadLocal<>();
+
+    private final String roomId;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile boolean closed; // 방 삭제 / 노드 이동으로 제거됨
+
+    RoomActor(String roomId, Executor executor) {
+        this.roomId = roomId;
+        this.executor = executor;
+    }
+
+    /**
+     * 명령을 mailbox에 추가
+     * @param command 실행할 명령
+     */
+    void submit(Runnable command) {
+        mailbox.offer(command);
+        schedule();
+    }
+
+    /**
+     * 제거 표시, 이후 mailbox에서 꺼낸 명령은 방 상태를 건드리지 않음
+     */
+    void close() {
+        this.closed = true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 현재 스레드가 이 actor의 명령을 실행중인지
+     */
+    boolean isCurrentThread() {
+        return CURRENT.get() == this;
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::runMailbox);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            throw e;
+        }
+    }
+
+    private void runMailbox() {
+        CURRENT.set(this);
+        try {
+            for (int processed = 0; processed < MAX_COMMANDS_PER_RUN; processed++) {
+                Runnable command = mailbox.poll();
+                if (command == null) {
+                    break;
+                }
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    log.error("방 명령 실행 실패: roomId={}, error={}", roomId, e.getMessage(), e);
+                }
+            }
+        } finally {
+            CURRENT.remove();
+            scheduled.set(false);
+        }
+
+        // 실행 도중 추가된 명령이 있으면 다시 예약
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.coders.boardgame.domain.game.actor;
+
+/**
+ * 방 actor 확장 지점 (방 저장소 연동)
+ */
+public interface RoomActorHooks {
+
+    RoomActorHooks NONE = new RoomActorHooks() { };
+
+    /**
+     * 이 노드에 actor가 없는 방을 방 저장소에서 가져와 등록 (담당 노드가 바뀐 뒤 첫 명령)
+     * @param roomId 방 id
+     * @return actor 등록 여부
+     */
+    default boolean loadRoom(String roomId) {
+        return false;
+    }
+
+    /**
+     * 방 명령 실행 직후 호출 (같은 actor에서 실행되므로 방 상태를 그대로 읽을 수 있음)
+     * actor 스레드에서 실행되므로 저장 같은 blocking 작업은 다른 스레드로 넘김
+     * @param roomId 방 id
+     */
+    default void afterCommand(String roomId) {
+    }
+}
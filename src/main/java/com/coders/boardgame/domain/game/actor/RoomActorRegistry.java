@@ -0,0 +1,163 @@
+package com.coders.boardgame.domain.game.actor;
+
+import com.coders.boardgame.exception.GameRoomException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방별 actor 관리
+ * 같은 방의 명령은 하나씩 순서대로 실행되고, 다른 방의 명령은 공용 executor에서 병렬로 실행됨
+ * 호출한 스레드는 결과가 나올 때까지 기다리며, 같은 방의 명령 안에서 다시 호출하면 바로 실행함
+ * 플랫폼 스레드 모드는 CPU 수만큼의 스레드를 모든 방이 나눠쓰므로 명령 / hook 안에서 파일 / 네트워크 I/O를 기다리지 않음
+ */
+@Slf4j
+@Component
+public class RoomActorRegistry {
+
+    private final Map<String, RoomActor> actors = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private volatile RoomActorHooks hooks = RoomActorHooks.NONE;
+
+    public RoomActorRegistry(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("room-actor-", 0).factory());
+            log.info("방 actor executor 초기화: virtual");
+        } else {
+            int threads = Runtime.getRuntime().availableProcessors();
+            this.executor = Executors.newFixedThreadPool(threads, actorThreadFactory());
+            log.info("방 actor executor 초기화: threads={}", threads);
+        }
+    }
+
+    /**
+     * 방 저장소 연동 hook 설정
+     * @param hooks actor가 없을 때 / 명령 실행 후 호출할 hook
+     */
+    public void setHooks(RoomActorHooks hooks) {
+        this.hooks = hooks;
+    }
+
+    /**
+     * 방 actor 생성 (방 생성 시)
+     * @param roomId 방 id
+     */
+    public void register(String roomId) {
+        actors.putIfAbsent(roomId, new RoomActor(roomId, executor));
+    }
+
+    /**
+     * 방 actor 제거 (방 삭제 / 노드 이동 시)
+     * 이미 mailbox에 있는 명령은 새로 등록된 actor가 있으면 넘기고, 없으면 방이 없다는 예외로 끝냄
+     * @param roomId 방 id
+     */
+    public void remove(String roomId) {
+        RoomActor actor = actors.remove(roomId);
+        if (actor != null) {
+            actor.close();
+        }
+    }
+
+    /**
+     * 방 actor에서 명령을 실행하고 결과 반환
+     * @param roomId 방 id
+     * @param command 실행할 명령
+     * @return 명령 결과
+     */
+    public <T> T call(String roomId, Supplier<T> command) {
+        RoomActor actor = actors.get(roomId);
+        if (actor == null && hooks.loadRoom(roomId)) {
+            actor = actors.get(roomId);
+        }
+        if (actor == null) {
+            throw new GameRoomException("방이 존재하지 않습니다: " + roomId, HttpStatus.NOT_FOUND);
+        }
+
+        // 같은 방의 명령 안에서 호출된 경우 바로 실행 (mailbox에 넣으면 자기 자신을 기다리게 됨)
+        if (actor.isCurrentThread()) {
+            return command.get();
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(roomId, actor, command, result);
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // 명령에서 던진 예외(GameRoomException 등)를 그대로 호출자에게 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> void submit(String roomId, RoomActor actor, Supplier<T> command, CompletableFuture<T> result) {
+        actor.submit(() -> {
+            // 대기 중에 actor가 제거된 경우, 다시 등록된 actor(노드 이동 후 다시 가져옴)로 넘기거나 거절
+            // 제거된 actor에서 그대로 실행하면 새 actor의 명령과 동시에 같은 방을 바꾸게 됨
+            if (actor.isClosed()) {
+                RoomActor next = actors.get(roomId);
+                if (next != null && next != actor) {
+                    submit(roomId, next, command, result);
+                } else {
+                    result.completeExceptionally(
+                            new GameRoomException("방이 존재하지 않습니다: " + roomId, HttpStatus.NOT_FOUND));
+                }
+                return;
+            }
+            try {
+                T value;
+                try {
+                    value = command.get();
+                } finally {
+                    hooks.afterCommand(roomId); // 응답 전에 방 상태 변경 반영
+                }
+                result.complete(value);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * 방 actor에서 명령을 실행하고 끝날 때까지 대기
+     * @param roomId 방 id
+     * @param command 실행할 명령
+     */
+    public void run(String roomId, Runnable command) {
+        call(roomId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory actorThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "room-actor-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.coders.boardgame.domain.game.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 방 id -> 담당 노드 consistent hash ring (불변)
+ * 노드마다 가상 노드를 여러 개 두어 방이 고르게 나뉘고, 노드가 추가 / 제거될 때 그 노드 몫의 방만 담당이 바뀜
+ */
+final class ConsistentHashRing {
+
+    private static final int VIRTUAL_NODES = 128; // 노드당 가상 노드 수
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    ConsistentHashRing(Collection<String> members) {
+        for (String member : members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    /**
+     * 방을 담당하는 노드
+     * @param roomId 방 id
+     * @return 노드 이름, 노드가 없으면 null
+     */
+    String ownerOf(String roomId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(roomId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * FNV-1a 64비트 해시 + murmur3 finalizer (짧은 문자열도 ring 위에 고르게 퍼지도록)
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
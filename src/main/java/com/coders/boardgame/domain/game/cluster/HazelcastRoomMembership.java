@@ -0,0 +1,62 @@
+package com.coders.boardgame.domain.game.cluster;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.cluster.MembershipListener;
+import com.hazelcast.core.HazelcastInstance;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hazelcast 클러스터 노드 목록을 방 담당 ring에 반영 (game.cluster.store=hazelcast)
+ * 각 노드는 member attribute로 노드 이름(node-id)과 명령을 받을 주소(node-url)를 알림
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HazelcastRoomMembership implements MembershipListener {
+
+    public static final String NODE_ID_ATTRIBUTE = "node-id";
+    public static final String NODE_URL_ATTRIBUTE = "node-url";
+
+    private final HazelcastInstance hazelcastInstance;
+    private final RoomOwnership roomOwnership;
+
+    @PostConstruct
+    public void register() {
+        hazelcastInstance.getCluster().addMembershipListener(this);
+        update(hazelcastInstance.getCluster().getMembers());
+    }
+
+    @Override
+    public void memberAdded(MembershipEvent event) {
+        update(event.getMembers());
+    }
+
+    @Override
+    public void memberRemoved(MembershipEvent event) {
+        update(event.getMembers());
+    }
+
+    private void update(Collection<Member> members) {
+        Map<String, String> memberUrls = new HashMap<>();
+        for (Member member : members) {
+            String nodeId = member.getAttribute(NODE_ID_ATTRIBUTE);
+            if (nodeId == null) {
+                log.warn("node-id 가 없는 클러스터 노드는 방을 담당하지 않음: {}", member.getAddress());
+                continue;
+            }
+            String previous = memberUrls.put(nodeId,
+                    Objects.requireNonNullElse(member.getAttribute(NODE_URL_ATTRIBUTE), ""));
+            if (previous != null) {
+                log.error("같은 node-id 를 쓰는 클러스터 노드가 있습니다: nodeId={}, address={}", nodeId, member.getAddress());
+            }
+        }
+        roomOwnership.updateMembers(memberUrls);
+    }
+}
@@ -0,0 +1,50 @@
+package com.coders.boardgame.domain.game.cluster;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * 내장 Hazelcast 분산 map에 두는 방 저장소 (game.cluster.store=hazelcast)
+ * 스냅샷은 다른 노드에 백업이 남으므로 노드 하나가 죽어도 새 담당 노드가 방을 이어받을 수 있음
+ */
+public class HazelcastRoomStore implements RoomStore {
+
+    public static final String MAP_NAME = "game-rooms";
+    public static final String ROOM_ID_MAP_NAME = "game-room-id-ceilings";
+
+    private final IMap<String, RoomSnapshot> snapshots;
+    private final IMap<Integer, Long> roomIdCeilings; // 노드별 예약한 끝 순번 (노드가 재시작해도 클러스터에 남음)
+
+    public HazelcastRoomStore(HazelcastInstance hazelcastInstance) {
+        this.snapshots = hazelcastInstance.getMap(MAP_NAME);
+        this.roomIdCeilings = hazelcastInstance.getMap(ROOM_ID_MAP_NAME);
+    }
+
+    @Override
+    public void save(RoomSnapshot snapshot) {
+        snapshots.set(snapshot.roomId(), snapshot); // 이전 값을 돌려받지 않음
+    }
+
+    @Override
+    public RoomSnapshot find(String roomId) {
+        return snapshots.get(roomId);
+    }
+
+    @Override
+    public void delete(String roomId) {
+        snapshots.delete(roomId);
+    }
+
+    @Override
+    public long reserveRoomIds(int nodeId, long minStart, long count) {
+        roomIdCeilings.lock(nodeId);
+        try {
+            Long ceiling = roomIdCeilings.get(nodeId);
+            long start = Math.max(ceiling == null ? 0L : ceiling, minStart);
+            roomIdCeilings.set(nodeId, start + count);
+            return start;
+        } finally {
+            roomIdCeilings.unlock(nodeId);
+        }
+    }
+}
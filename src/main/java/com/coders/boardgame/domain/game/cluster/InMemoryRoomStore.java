@@ -0,0 +1,38 @@
+package com.coders.boardgame.domain.game.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 하나로 운영할 때의 방 저장소 (game.cluster.store=memory, 기본값)
+ * 방을 가져갈 다른 노드가 없으므로 방 스냅샷은 보관하지 않음 (방 객체는 GameRoomRegistry에만 있음)
+ * 방 코드 순번 예약만 메모리에 두며, 재시작 후 방 복원은 journal이 담당
+ */
+public class InMemoryRoomStore implements RoomStore {
+
+    private final Map<Integer, Long> roomIdCeilings = new ConcurrentHashMap<>(); // 노드별 예약한 끝 순번
+
+    @Override
+    public void save(RoomSnapshot snapshot) {
+        // 보관하지 않음
+    }
+
+    @Override
+    public RoomSnapshot find(String roomId) {
+        return null;
+    }
+
+    @Override
+    public void delete(String roomId) {
+    }
+
+    @Override
+    public long reserveRoomIds(int nodeId, long minStart, long count) {
+        long[] start = new long[1];
+        roomIdCeilings.compute(nodeId, (id, ceiling) -> {
+            start[0] = Math.max(ceiling == null ? 0L : ceiling, minStart);
+            return start[0] + count;
+        });
+        return start[0];
+    }
+}
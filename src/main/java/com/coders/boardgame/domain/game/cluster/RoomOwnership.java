@@ -0,0 +1,130 @@
+package com.coders.boardgame.domain.game.cluster;
+
+import com.coders.boardgame.domain.game.event.RoomOwnershipChangedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방 담당 노드 판단
+ * 노드 이름은 game.node-id 이고, 방 id를 consistent hash 해서 담당 노드를 정함
+ * 클러스터 구성이 바뀌거나 종료 준비 중인 노드가 생기면 ring을 교체하고 RoomOwnershipChangedEvent 발행
+ */
+@Slf4j
+@Component
+public class RoomOwnership {
+
+    @Getter
+    private final String localMember;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private volatile Map<String, String> memberUrls; // 노드 이름 -> 명령을 전달할 주소 (종료 준비 중인 노드 포함)
+    private volatile Set<String> leavingMembers = Set.of(); // 종료 준비 중이라 ring에서 뺀 노드
+    private volatile ConsistentHashRing ring;
+
+    public RoomOwnership(@Value("${game.node-id:0}") int nodeId,
+                         @Value("${game.cluster.advertised-url:}") String advertisedUrl,
+                         ApplicationEventPublisher applicationEventPublisher) {
+        this.localMember = String.valueOf(nodeId);
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.memberUrls = Map.of(localMember, advertisedUrl);
+        this.ring = new ConsistentHashRing(memberUrls.keySet());
+    }
+
+    /**
+     * 클러스터 노드 목록 교체
+     * @param members 노드 이름 -> 주소 (자기 자신 포함)
+     */
+    public synchronized void updateMembers(Map<String, String> members) {
+        if (members.equals(memberUrls)) {
+            return;
+        }
+        this.memberUrls = Map.copyOf(members);
+        Set<String> leaving = new HashSet<>(leavingMembers);
+        leaving.retainAll(memberUrls.keySet()); // 이미 나간 노드
+        this.leavingMembers = Set.copyOf(leaving);
+        rebuildRing();
+    }
+
+    /**
+     * 종료 준비 중인 노드를 ring에서 뺌 (그 노드의 방은 다른 노드가 저장소에서 가져가 이어서 진행)
+     * @param member 노드 이름
+     */
+    public synchronized void markLeaving(String member) {
+        if (leavingMembers.contains(member) || !memberUrls.containsKey(member)) {
+            return;
+        }
+        Set<String> leaving = new HashSet<>(leavingMembers);
+        leaving.add(member);
+        this.leavingMembers = Set.copyOf(leaving);
+        rebuildRing();
+    }
+
+    /**
+     * 클러스터 노드 이름 목록 (자기 자신 / 종료 준비 중인 노드 포함)
+     */
+    public Set<String> getMembers() {
+        return memberUrls.keySet();
+    }
+
+    private void rebuildRing() {
+        Set<String> owners = new HashSet<>(memberUrls.keySet());
+        owners.removeAll(leavingMembers);
+        this.ring = new ConsistentHashRing(owners);
+        log.info("방 담당 노드 목록 변경: local={}, members={}, leaving={}", localMember, memberUrls.keySet(), leavingMembers);
+        applicationEventPublisher.publishEvent(new RoomOwnershipChangedEvent(this, owners));
+    }
+
+    /**
+     * 노드가 하나뿐이면 모든 방을 직접 담당
+     */
+    public boolean isSingleNode() {
+        return memberUrls.size() <= 1;
+    }
+
+    /**
+     * 이 노드가 담당하는 방인지
+     * @param roomId 방 id
+     */
+    public boolean isLocal(String roomId) {
+        if (isSingleNode()) {
+            return true;
+        }
+        String owner = ring.ownerOf(roomId);
+        return owner == null || owner.equals(localMember);
+    }
+
+    /**
+     * 방을 담당하는 노드 이름
+     * @param roomId 방 id
+     */
+    public String ownerOf(String roomId) {
+        if (isSingleNode()) {
+            return localMember;
+        }
+        String owner = ring.ownerOf(roomId);
+        return owner != null ? owner : localMember;
+    }
+
+    /**
+     * 방을 담당하는 다른 노드의 주소
+     * @param roomId 방 id
+     * @return 주소, 이 노드가 담당하면 null
+     */
+    public String ownerUrl(String roomId) {
+        if (isSingleNode()) {
+            return null;
+        }
+        String owner = ring.ownerOf(roomId);
+        if (owner == null || owner.equals(localMember)) {
+            return null;
+        }
+        return memberUrls.get(owner);
+    }
+}
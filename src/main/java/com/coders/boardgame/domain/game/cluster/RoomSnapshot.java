@@ -0,0 +1,162 @@
+package com.coders.boardgame.domain.game.cluster;
+
+import com.coders.boardgame.domain.game.dto.GameRoomDto;
+import com.coders.boardgame.domain.game.dto.PlayerSeats;
+import com.coders.boardgame.domain.game.dto.VoteBoard;
+import com.coders.boardgame.domain.game.enums.GamePhase;
+import com.coders.boardgame.domain.game.enums.RoomStatus;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 방 저장소에 저장하는 방 상태
+ * 방 actor에서 만든 값 복사본이므로 다른 노드로 옮기거나 저장해도 원래 방과 공유하는 객체가 없음
+ * ping 시각 / 상태 변경 기록 / 활동 시각은 저장하지 않고 복원 시점 기준으로 다시 시작
+ */
+public record RoomSnapshot(
+        String roomId,
+        String roomName,
+        int totalPlayers,
+        Long hostId,
+        List<PlayerSnapshot> players,
+        long[] seats,
+        int currentTurn,
+        int totalPuzzlePieces,
+        int currentPuzzlePieces,
+        int currentRound,
+        RoomStatus roomStatus,
+        int assignedPictureCardId,
+        int assignedTextCardId,
+        boolean pictureCardAssigned,
+        boolean textCardAssigned,
+        boolean hasReVoted,
+        GamePhase currentPhase,
+        long[] turnOrder,       // 순번 순서대로 플레이어 id, 순번 배치 전이면 빈 배열
+        Long currentSpeakerId,  // 없으면 null
+        byte[] votes,           // 자리 번호별 투표, 투표판이 없으면 null
+        long stateVersion
+) implements Serializable {
+
+    /**
+     * 플레이어 상태
+     */
+    public record PlayerSnapshot(
+            Long playerId,
+            int avatarId,
+            String school,
+            String name,
+            int gender,
+            int sequenceNumber,
+            int collectedPuzzlePieces,
+            boolean speaking,       // 복원 시에는 currentSpeakerId 기준
+            int usageTime,
+            int surveyScore,
+            boolean ready,
+            int seatIndex
+    ) implements Serializable {
+
+        static PlayerSnapshot of(PlayerSeats players, int seat, boolean speaking) {
+            return new PlayerSnapshot(players.getPlayerId(seat), players.getAvatarId(seat),
+                    players.getSchool(seat), players.getName(seat), players.getGender(seat),
+                    players.getSequenceNumber(seat), players.getPuzzlePieces(seat), speaking,
+                    players.getUsageTime(seat), players.getSurveyScore(seat), players.isReady(seat), seat);
+        }
+
+        void restore(PlayerSeats players, long now) {
+            players.seat(seatIndex, playerId, avatarId, name, school, gender, surveyScore, now);
+            players.setSequenceNumber(seatIndex, sequenceNumber);
+            players.setPuzzlePieces(seatIndex, collectedPuzzlePieces);
+            players.setUsageTime(seatIndex, usageTime);
+            players.setReady(seatIndex, ready);
+        }
+    }
+
+    /**
+     * 방 상태 복사 (방 actor에서 호출)
+     * @param room 방 정보
+     * @return 스냅샷
+     */
+    public static RoomSnapshot of(GameRoomDto room) {
+        PlayerSeats seatState = room.getPlayers();
+        int speakerSeat = room.getCurrentSpeakerSeat();
+        List<PlayerSnapshot> players = new ArrayList<>(room.getCurrentPlayers());
+        long[] seats = new long[seatState.size()];
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seatState.isOccupied(seat)) {
+                players.add(PlayerSnapshot.of(seatState, seat, seat == speakerSeat));
+                seats[seat] = seatState.getPlayerId(seat);
+            }
+        }
+
+        List<Long> order = new ArrayList<>();
+        int next;
+        while ((next = room.getSeatAt(order.size() + 1)) != PlayerSeats.NO_SEAT) {
+            order.add(seatState.getPlayerId(next));
+        }
+        long[] turnOrder = order.stream().mapToLong(Long::longValue).toArray();
+
+        Long speakerId = speakerSeat != PlayerSeats.NO_SEAT && seatState.isOccupied(speakerSeat)
+                ? seatState.getPlayerId(speakerSeat) : null;
+        VoteBoard voteBoard = room.findVoteBoard();
+
+        return new RoomSnapshot(room.getRoomId(), room.getRoomName(), room.getTotalPlayers(), room.getHostId(),
+                players, seats, room.getCurrentTurn(), room.getTotalPuzzlePieces(),
+                room.getCurrentPuzzlePieces(), room.getCurrentRound(), room.getRoomStatus(),
+                room.getAssignedPictureCardId(), room.getAssignedTextCardId(),
+                room.isPictureCardAssigned(), room.isTextCardAssigned(), room.isHasReVoted(),
+                room.getCurrentPhase(), turnOrder, speakerId,
+                voteBoard == null ? null : voteBoard.toBytes(), room.getStateVersion());
+    }
+
+    /**
+     * 스냅샷으로 새 방 객체 생성
+     * 플레이어의 ping 시각은 복원 시각으로 설정해 복원 직후 유령 유저로 판단되지 않게 함
+     * @return 방 정보
+     */
+    public GameRoomDto restore() {
+        long now = System.currentTimeMillis();
+
+        PlayerSeats restoredPlayers = new PlayerSeats(seats.length);
+        for (PlayerSnapshot player : players) {
+            player.restore(restoredPlayers, now);
+        }
+
+        GameRoomDto room = GameRoomDto.builder()
+                .roomId(roomId)
+                .roomName(roomName)
+                .totalPlayers(totalPlayers)
+                .currentPlayers(players.size())
+                .hostId(hostId)
+                .players(restoredPlayers)
+                .currentTurn(currentTurn)
+                .totalPuzzlePieces(totalPuzzlePieces)
+                .currentPuzzlePieces(currentPuzzlePieces)
+                .currentRound(currentRound)
+                .roomStatus(roomStatus)
+                .assignedPictureCardId(assignedPictureCardId)
+                .assignedTextCardId(assignedTextCardId)
+                .isPictureCardAssigned(pictureCardAssigned)
+                .isTextCardAssigned(textCardAssigned)
+                .hasReVoted(hasReVoted)
+                .currentPhase(currentPhase)
+                .stateVersion(stateVersion)
+                .voteBoard(votes == null ? null : VoteBoard.fromBytes(votes))
+                .build();
+
+        if (turnOrder.length > 0) {
+            int[] orderedSeats = Arrays.stream(turnOrder)
+                    .mapToInt(restoredPlayers::seatOf)
+                    .filter(seat -> seat != PlayerSeats.NO_SEAT)
+                    .toArray();
+            room.assignTurnOrder(orderedSeats);
+        }
+        int speakerSeat = restoredPlayers.seatOf(currentSpeakerId);
+        if (speakerSeat != PlayerSeats.NO_SEAT) {
+            room.changeSpeaker(speakerSeat);
+        }
+        return room;
+    }
+}
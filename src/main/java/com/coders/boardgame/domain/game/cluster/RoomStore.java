@@ -0,0 +1,40 @@
+package com.coders.boardgame.domain.game.cluster;
+
+/**
+ * 방 저장소 SPI
+ * 방을 담당하는 노드는 방 객체를 메모리(GameRoomRegistry)에 두고 명령을 처리하며,
+ * 여러 노드로 운영할 때만 바뀐 방의 스냅샷을 주기적으로(game.cluster.store-flush-interval-ms), 노드 이동 시에는 바로 여기에 저장함
+ * 담당 노드가 바뀌거나(노드 추가 / 장애) 재시작하면 새 담당 노드가 여기서 방을 가져와 이어서 진행
+ * 구현: InMemoryRoomStore (단일 노드), HazelcastRoomStore (game.cluster.store=hazelcast)
+ */
+public interface RoomStore {
+
+    /**
+     * 방 스냅샷 저장 (같은 방은 덮어씀)
+     * @param snapshot 방 스냅샷
+     */
+    void save(RoomSnapshot snapshot);
+
+    /**
+     * 방 스냅샷 조회
+     * @param roomId 방 id
+     * @return 스냅샷, 없으면 null
+     */
+    RoomSnapshot find(String roomId);
+
+    /**
+     * 방 스냅샷 삭제 (방 삭제 시)
+     * @param roomId 방 id
+     */
+    void delete(String roomId);
+
+    /**
+     * 방 코드 순번 구간 예약 (노드별로 지금까지 예약한 끝 순번을 저장)
+     * 노드가 재시작해도 이전에 발급했던 순번을 다시 쓰지 않도록 방 코드 발급기가 구간 단위로 받아감
+     * @param nodeId 노드 번호
+     * @param minStart 이 순번 이상에서 시작 (복원한 방 코드 다음 순번)
+     * @param count 예약할 순번 수
+     * @return 예약한 구간의 시작 순번 [start, start + count)
+     */
+    long reserveRoomIds(int nodeId, long minStart, long count);
+}
@@ -0,0 +1,93 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.dto.GameRoomDto;
+import com.coders.boardgame.domain.game.enums.RoomStatus;
+import com.coders.boardgame.domain.game.service.GameRoomService;
+import com.coders.boardgame.exception.GameRoomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 방치된 방 정리
+ * 방 상태별 idle TTL이 지난 방은 바로 삭제하고, 아직 TTL 전인 방치된 방은 오래된 순으로 정리 후보에 올려
+ * 방 수가 최대치일 때 새 방 생성을 위해 먼저 정리되도록 함
+ */
+@Slf4j
+@Component
+public class AbandonedRoomCleaner {
+
+    private final GameRoomRegistry gameRoomRegistry;
+    private final GameRoomService gameRoomService;
+
+    private final long waitingTtl;      // 대기방
+    private final long inGameTtl;       // 게임중
+    private final long endedTtl;        // 게임 종료
+    private final long disconnectedTtl; // SSE 연결이 하나도 없는 방
+
+    public AbandonedRoomCleaner(GameRoomRegistry gameRoomRegistry,
+                                GameRoomService gameRoomService,
+                                @Value("${game.rooms.idle-ttl-ms.waiting:1800000}") long waitingTtl,
+                                @Value("${game.rooms.idle-ttl-ms.in-game:3600000}") long inGameTtl,
+                                @Value("${game.rooms.idle-ttl-ms.ended:600000}") long endedTtl,
+                                @Value("${game.rooms.idle-ttl-ms.disconnected:180000}") long disconnectedTtl) {
+        this.gameRoomRegistry = gameRoomRegistry;
+        this.gameRoomService = gameRoomService;
+        this.waitingTtl = waitingTtl;
+        this.inGameTtl = inGameTtl;
+        this.endedTtl = endedTtl;
+        this.disconnectedTtl = disconnectedTtl;
+    }
+
+    @Scheduled(fixedDelayString = "${game.rooms.sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        List<GameRoomDto> candidates = new ArrayList<>();
+        int evicted = 0;
+
+        for (GameRoomDto room : gameRoomRegistry.values()) {
+            boolean connected = gameRoomService.hasConnections(room.getRoomId());
+
+            if (isIdleExpired(room, now, connected)) {
+                try {
+                    // 확인 이후 방 actor에서 처리된 입장 / 연결 / 명령이 있으면 정리하지 않도록 actor 안에서 다시 확인
+                    if (gameRoomService.evictRoom(room.getRoomId(), "idle",
+                            r -> isIdleExpired(r, now, gameRoomService.hasConnections(r.getRoomId())))) {
+                        evicted++;
+                    }
+                } catch (GameRoomException e) {
+                    // 그 사이 삭제된 방
+                }
+            } else if (!connected && room.getRoomStatus() != RoomStatus.IN_GAME) {
+                candidates.add(room);
+            }
+        }
+
+        // 오래 방치된 순 (LRU)
+        candidates.sort(Comparator.comparingLong(GameRoomDto::getLastActiveTime));
+        gameRoomRegistry.replaceEvictionCandidates(candidates.stream().map(GameRoomDto::getRoomId).toList());
+
+        if (evicted > 0) {
+            log.info("방치된 방 정리 완료: evicted={}, candidates={}, rooms={}",
+                    evicted, candidates.size(), gameRoomRegistry.size());
+        }
+    }
+
+    private boolean isIdleExpired(GameRoomDto room, long now, boolean connected) {
+        return now - room.getLastActiveTime() > idleTtl(room.getRoomStatus(), connected);
+    }
+
+    private long idleTtl(RoomStatus status, boolean connected) {
+        long ttl = switch (status) {
+            case WAITING -> waitingTtl;
+            case IN_GAME -> inGameTtl;
+            case ENDED -> endedTtl;
+        };
+        return connected ? ttl : Math.min(ttl, disconnectedTtl);
+    }
+}
@@ -0,0 +1,110 @@
+package com.coders.boardgame.domain.game.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 서버 카운터 / 타이머
+ * 방 / 연결 수 같은 gauge는 GameMetricsBinder에서 등록
+ */
+@Component
+public class GameMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter ghostEvictions;
+    private final Counter reconnects;
+    private final Counter roomRejections;
+    private final Map<String, Counter> sendFailures = new ConcurrentHashMap<>(); // 실패 사유별
+    private final Map<String, Timer> fanOutTimers = new ConcurrentHashMap<>();   // 이벤트 이름별
+    private final Map<String, Counter> roomEvictions = new ConcurrentHashMap<>(); // 정리 사유별
+    private final Map<String, Counter> connectThrottles = new ConcurrentHashMap<>(); // 제한한 버킷별
+    private final Counter mergedReconnects;
+
+    public GameMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.ghostEvictions = Counter.builder("game.ghost.evictions")
+                .description("유령 유저로 판단되어 방에서 제거된 플레이어 수")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("game.sse.reconnects")
+                .description("기존 연결을 대체한 SSE 재연결 수")
+                .register(meterRegistry);
+        this.roomRejections = Counter.builder("game.rooms.rejected")
+                .description("최대 방 수에 도달해 거절된 방 생성 요청 수")
+                .register(meterRegistry);
+        this.mergedReconnects = Counter.builder("game.sse.reconnects.merged")
+                .description("짧은 시간 안에 반복되어 생략한 player-reconnected 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방 이벤트 fan-out(직렬화 + 연결별 큐 적재) 시간 기록
+     * @param eventName 이벤트 이름
+     * @param elapsedNanos 걸린 시간 (ns)
+     */
+    public void recordFanOut(String eventName, long elapsedNanos) {
+        fanOutTimers.computeIfAbsent(eventName, name -> Timer.builder("game.sse.fanout")
+                        .description("방 이벤트를 모든 연결의 전송 큐에 넣는 데 걸린 시간")
+                        .tag("event", name)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void ghostEvicted() {
+        ghostEvictions.increment();
+    }
+
+    public void reconnected() {
+        reconnects.increment();
+    }
+
+    /**
+     * SSE 전송 실패 기록
+     * @param reason 실패 사유 (send-failure, slow-consumer)
+     */
+    public void sendFailed(String reason) {
+        sendFailures.computeIfAbsent(reason, r -> Counter.builder("game.sse.send.failures")
+                        .description("전송 실패로 끊긴 SSE 연결 수")
+                        .tag("reason", r)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void roomRejected() {
+        roomRejections.increment();
+    }
+
+    /**
+     * 방치된 방 정리 기록
+     * @param reason 정리 사유 (idle, capacity)
+     */
+    public void roomEvicted(String reason) {
+        roomEvictions.computeIfAbsent(reason, r -> Counter.builder("game.rooms.evicted")
+                        .description("방치되어 정리된 방 수")
+                        .tag("reason", r)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * SSE 연결 요청 제한 기록
+     * @param scope 거절한 토큰 버킷 (node, room)
+     */
+    public void sseConnectThrottled(String scope) {
+        connectThrottles.computeIfAbsent(scope, s -> Counter.builder("game.sse.connect.throttled")
+                        .description("연결 요청 제한으로 재연결 대기를 안내한 SSE 연결 요청 수")
+                        .tag("scope", s)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void reconnectMerged() {
+        mergedReconnects.increment();
+    }
+}
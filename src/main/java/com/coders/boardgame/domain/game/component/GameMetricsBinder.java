@@ -0,0 +1,41 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.enums.RoomStatus;
+import com.coders.boardgame.domain.game.service.GameRoomService;
+import com.coders.boardgame.domain.game.service.GameSseService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 / 플레이어 / SSE 연결 gauge 등록
+ * 값은 scrape 시점에 방 목록을 한번 훑어서 계산
+ */
+@Component
+@RequiredArgsConstructor
+public class GameMetricsBinder implements MeterBinder {
+
+    private final GameRoomService gameRoomService;
+    private final GameSseService gameSseService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RoomStatus status : RoomStatus.values()) {
+            Gauge.builder("game.rooms", gameRoomService, service -> service.countRooms(status))
+                    .description("상태별 방 수")
+                    .tag("status", status.name())
+                    .register(registry);
+            // 방당 평균 인원은 game.room.players / game.rooms 로 계산
+            Gauge.builder("game.room.players", gameRoomService, service -> service.countPlayers(status))
+                    .description("상태별 방에 참여중인 플레이어 수")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+
+        Gauge.builder("game.sse.connections", gameSseService, GameSseService::countConnections)
+                .description("열려있는 SSE 연결 수")
+                .register(registry);
+    }
+}
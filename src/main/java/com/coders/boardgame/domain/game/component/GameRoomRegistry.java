@@ -0,0 +1,136 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.dto.GameRoomDto;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 ID -> 방 정보 저장소 (최대 방 수 제한)
+ * 방 생성 전에 자리를 먼저 예약해서 동시에 많은 방이 만들어져도 최대치를 넘지 않음
+ * 방치된 방 목록(LRU 순)은 AbandonedRoomCleaner가 주기적으로 채우고, 자리가 없을 때 앞에서부터 꺼내 정리함
+ */
+@Component
+public class GameRoomRegistry {
+
+    private final Map<String, GameRoomDto> rooms = new ConcurrentHashMap<>();
+    private final AtomicInteger reserved = new AtomicInteger(); // 저장된 방 + 생성중인 방
+    private final ConcurrentLinkedQueue<String> evictionCandidates = new ConcurrentLinkedQueue<>();
+
+    @Getter
+    private final int maxRooms;
+    @Getter
+    private final long retryAfterSeconds; // 자리가 없을 때 클라이언트에게 알려줄 재시도 대기 시간
+    @Getter
+    private final long evictMinIdleMs;    // 자리를 만들기 위해 정리할 수 있는 최소 방치 시간
+
+    public GameRoomRegistry(@Value("${game.rooms.max:20000}") int maxRooms,
+                            @Value("${game.rooms.retry-after-seconds:5}") long retryAfterSeconds,
+                            @Value("${game.rooms.evict-min-idle-ms:60000}") long evictMinIdleMs) {
+        this.maxRooms = maxRooms;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.evictMinIdleMs = evictMinIdleMs;
+    }
+
+    /**
+     * 방 하나의 자리 예약
+     * @return 예약 성공 여부
+     */
+    public boolean tryReserve() {
+        while (true) {
+            int current = reserved.get();
+            if (current >= maxRooms) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 방을 만들지 못했을 때 예약 취소
+     */
+    public void release() {
+        reserved.decrementAndGet();
+    }
+
+    /**
+     * 예약한 자리에 방 저장
+     * @param room 방 정보
+     */
+    public void put(GameRoomDto room) {
+        rooms.put(room.getRoomId(), room);
+    }
+
+    /**
+     * 방 조회, 명령 / 연결 처리용이므로 활동 시각을 갱신
+     * @param roomId 방 id
+     * @return 방 정보, 없으면 null
+     */
+    public GameRoomDto get(String roomId) {
+        GameRoomDto room = rooms.get(roomId);
+        if (room != null) {
+            room.touch();
+        }
+        return room;
+    }
+
+    /**
+     * 활동 시각을 바꾸지 않는 조회 (ping, 스케줄러, metrics)
+     * @param roomId 방 id
+     * @return 방 정보, 없으면 null
+     */
+    public GameRoomDto peek(String roomId) {
+        return rooms.get(roomId);
+    }
+
+    /**
+     * 방 제거 후 자리 반환
+     * @param roomId 방 id
+     * @return 제거된 방, 없었으면 null
+     */
+    public GameRoomDto remove(String roomId) {
+        GameRoomDto removed = rooms.remove(roomId);
+        if (removed != null) {
+            reserved.decrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * 저장된 모든 방 (읽기 전용 view)
+     */
+    public Collection<GameRoomDto> values() {
+        return Collections.unmodifiableCollection(rooms.values());
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    /**
+     * 정리 후보 목록 교체
+     * @param roomIds 오래 방치된 순으로 정렬된 방 id
+     */
+    public void replaceEvictionCandidates(List<String> roomIds) {
+        evictionCandidates.clear();
+        evictionCandidates.addAll(roomIds);
+    }
+
+    /**
+     * 가장 오래 방치된 정리 후보
+     * @return 방 id, 없으면 null
+     */
+    public String pollEvictionCandidate() {
+        return evictionCandidates.poll();
+    }
+}
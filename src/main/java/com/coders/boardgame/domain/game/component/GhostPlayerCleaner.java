@@ -1,40 +1,72 @@
 package com.coders.boardgame.domain.game.component;
 
 import com.coders.boardgame.domain.game.dto.GameRoomDto;
-import com.coders.boardgame.domain.game.dto.PlayerDto;
+import com.coders.boardgame.domain.game.dto.PlayerSeats;
 import com.coders.boardgame.domain.game.service.GameRoomService;
-import lombok.RequiredArgsConstructor;
+import com.coders.boardgame.exception.GameRoomException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Component
 @EnableScheduling
-@RequiredArgsConstructor
 public class GhostPlayerCleaner {
 
     private final GameRoomService gameRoomService;
+    private final PlayerExpiryWheel playerExpiryWheel;
+    private final GameMetrics gameMetrics;
+    private final long ghostThreshold; // 기본 2분 30초
 
-    private static final long GHOST_THRESHOLD = 150_000; // 2분 30초
+    public GhostPlayerCleaner(GameRoomService gameRoomService,
+                              PlayerExpiryWheel playerExpiryWheel,
+                              GameMetrics gameMetrics,
+                              @Value("${game.ghost.threshold-ms:150000}") long ghostThreshold) {
+        this.gameRoomService = gameRoomService;
+        this.playerExpiryWheel = playerExpiryWheel;
+        this.gameMetrics = gameMetrics;
+        this.ghostThreshold = ghostThreshold;
+    }
 
-    @Scheduled(fixedDelay = 30_000)
+    @Scheduled(fixedDelayString = "${game.ghost.tick-ms:5000}")
     public void removeGhostUser() {
         long now = System.currentTimeMillis();
-        List<GameRoomDto> allRooms = gameRoomService.getAllRooms();
-
-        for (GameRoomDto room : allRooms) {
-            for (PlayerDto player : new ArrayList<>((room.getPlayers().values()))) {
-                long diff = now - player.getLastPingTime();
-                if (diff > GHOST_THRESHOLD) {
-                    // 유령 유저로 판단
-                    log.warn("유령 유저 감지: room={}, player={}, diff={}", room.getRoomId(), player.getPlayerId(), diff);
-                    gameRoomService.leaveRoom(room.getRoomId(), player.getPlayerId(), false);
-                }
+        List<PlayerExpiryWheel.PlayerKey> expired = playerExpiryWheel.advance(now);
+
+        for (PlayerExpiryWheel.PlayerKey key : expired) {
+            GameRoomDto room = gameRoomService.findRoom(key.roomId());
+            int seat = room != null ? room.getPlayers().seatOf(key.playerId()) : PlayerSeats.NO_SEAT;
+            if (seat == PlayerSeats.NO_SEAT) {
+                continue; // 이미 나간 플레이어
+            }
+
+            // wheel을 거치지 않고 갱신된 ping이 있으면 다시 등록
+            long lastPingTime = room.getPlayers().getLastPingTime(seat);
+            long diff = now - lastPingTime;
+            if (diff <= ghostThreshold) {
+                playerExpiryWheel.schedule(key.roomId(), key.playerId(), lastPingTime);
+                continue;
+            }
+
+            // 유령 유저로 판단
+            log.warn("유령 유저 감지: room={}, player={}, diff={}", key.roomId(), key.playerId(), diff);
+            // wheel에서 이미 빠진 항목이므로 하나가 실패해도 나머지 만료 플레이어는 계속 처리
+            try {
+                gameRoomService.leaveRoom(key.roomId(), key.playerId(), false);
+                gameMetrics.ghostEvicted();
+            } catch (GameRoomException e) {
+                // 그 사이 직접 나갔거나 방이 삭제됨
+                log.debug("유령 유저 퇴장 처리 생략: room={}, player={}, reason={}",
+                        key.roomId(), key.playerId(), e.getMessage());
+            } catch (RuntimeException e) {
+                // 아직 방에 남아있을 수 있으므로 다음 tick에 다시 확인
+                log.warn("유령 유저 퇴장 처리 실패: room={}, player={}, error={}",
+                        key.roomId(), key.playerId(), e.getMessage());
+                playerExpiryWheel.schedule(key.roomId(), key.playerId(), lastPingTime);
             }
         }
     }
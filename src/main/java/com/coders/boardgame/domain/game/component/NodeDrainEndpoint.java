@@ -0,0 +1,41 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.service.GameRoomService;
+import com.coders.boardgame.domain.game.service.GameSseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 노드 종료 준비 (/actuator/drain)
+ * GET  /actuator/drain  종료 준비 상태 / 남은 방 / 연결 수
+ * POST /actuator/drain  종료 없이 종료 준비 시작 (배포 스크립트가 완료를 확인한 뒤 노드를 내림)
+ */
+@Component
+@Endpoint(id = "drain")
+@RequiredArgsConstructor
+public class NodeDrainEndpoint {
+
+    private final NodeDrainer nodeDrainer;
+    private final GameRoomService gameRoomService;
+    private final GameSseService gameSseService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "draining", nodeDrainer.isDraining(),
+                "drained", nodeDrainer.isDrained(),
+                "rooms", gameRoomService.getAllRooms().size(),
+                "connections", gameSseService.countConnections());
+    }
+
+    @WriteOperation
+    public Map<String, Object> drain() {
+        nodeDrainer.drain();
+        return status();
+    }
+}
@@ -0,0 +1,190 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.cluster.RoomOwnership;
+import com.coders.boardgame.domain.game.journal.RoomJournal;
+import com.coders.boardgame.domain.game.service.GameRoomService;
+import com.coders.boardgame.domain.game.service.GameSseService;
+import com.coders.boardgame.domain.game.sse.RoomEventBus;
+import com.coders.boardgame.domain.game.sse.RoomSignal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 노드 종료 준비(drain)
+ * 배포로 노드를 내릴 때 진행 중인 게임을 잃지 않고, 클라이언트가 한꺼번에 재연결하지 않도록 순서대로 정리
+ *  1. 새 방 생성 / 입장 거절 (503 + Retry-After), SSE 연결은 retry: 와 server-draining 이벤트만 보내고 닫음
+ *  2. 클러스터면 이 노드를 방 담당 ring에서 빼고 다른 노드에 알린 뒤, 방을 저장소에 넘김 (다른 노드가 이어서 진행)
+ *     노드 하나면 journal을 스냅샷으로 합쳐 재시작한 노드가 바로 복원하게 함
+ *  3. 이 노드의 SSE 연결마다 server-draining 이벤트로 연결을 닫을 시각을 알리고, drain 시간 동안 나눠서 닫음
+ * 종료 시 웹 서버보다 먼저 멈추고(SmartLifecycle), /actuator/drain 으로 종료 없이 시작할 수도 있음
+ */
+@Slf4j
+@Component
+public class NodeDrainer implements SmartLifecycle {
+
+    public static final String DRAINING_EVENT = "server-draining";
+
+    private record Target(String roomId, Long playerId) {
+    }
+
+    private final GameRoomService gameRoomService;
+    private final GameSseService gameSseService;
+    private final RoomOwnership roomOwnership;
+    private final RoomEventBus roomEventBus;
+    private final RoomJournal roomJournal;
+    private final long closeWindowMs; // SSE 연결을 나눠서 닫는 시간
+
+    private volatile boolean running;
+    private CompletableFuture<Void> drained; // drain 시작 후 완료 future (this 락)
+
+    public NodeDrainer(GameRoomService gameRoomService,
+                       GameSseService gameSseService,
+                       RoomOwnership roomOwnership,
+                       RoomEventBus roomEventBus,
+                       RoomJournal roomJournal,
+                       @Value("${game.drain.close-window-ms:10000}") long closeWindowMs) {
+        this.gameRoomService = gameRoomService;
+        this.gameSseService = gameSseService;
+        this.roomOwnership = roomOwnership;
+        this.roomEventBus = roomEventBus;
+        this.roomJournal = roomJournal;
+        this.closeWindowMs = closeWindowMs;
+    }
+
+    /**
+     * drain 시작 (이미 시작했으면 진행 중인 drain 반환)
+     * @return drain 완료 future
+     */
+    public synchronized CompletableFuture<Void> drain() {
+        if (drained == null) {
+            gameRoomService.startDraining();
+            drained = CompletableFuture.runAsync(this::runDrain,
+                    runnable -> Thread.ofVirtual().name("node-drain").start(runnable));
+        }
+        return drained;
+    }
+
+    public synchronized boolean isDraining() {
+        return drained != null;
+    }
+
+    public synchronized boolean isDrained() {
+        return drained != null && drained.isDone();
+    }
+
+    private void runDrain() {
+        long start = System.currentTimeMillis();
+        log.info("노드 종료 준비 시작: rooms={}, connections={}",
+                gameRoomService.getAllRooms().size(),
+                gameSseService.countConnections());
+
+        handOffRooms();
+        closeConnections();
+
+        log.info("노드 종료 준비 완료: rooms={}, elapsed={}ms",
+                gameRoomService.getAllRooms().size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 방을 다른 노드(저장소) 또는 재시작할 노드(journal)로 넘김
+     */
+    private void handOffRooms() {
+        if (roomOwnership.isSingleNode()) {
+            roomJournal.compact();
+            return;
+        }
+
+        // 다른 노드가 이 노드의 방을 저장소에서 가져가도록 먼저 알리고, 이 노드는 더 이상 방을 가져오지 않음
+        String local = roomOwnership.getLocalMember();
+        for (String member : roomOwnership.getMembers()) {
+            if (!member.equals(local)) {
+                roomEventBus.sendToNode(member, RoomSignal.leaving(local));
+            }
+        }
+        roomOwnership.markLeaving(local);
+        int handedOff = gameRoomService.handOffForeignRooms();
+        log.info("종료 준비: 방을 다른 노드에 넘김: handedOff={}", handedOff);
+    }
+
+    /**
+     * 연결마다 닫을 시각을 정해 알리고 drain 시간 동안 고르게 닫음
+     * 연결을 정상 종료(의도적 끊김)로 닫으므로 플레이어는 방에서 나가지 않고, 다른 노드에 재연결해 이어서 진행
+     */
+    private void closeConnections() {
+        List<Target> targets = new ArrayList<>();
+        gameSseService.forEachConnection((roomId, playerId) -> targets.add(new Target(roomId, playerId)));
+        if (targets.isEmpty()) {
+            return;
+        }
+        Collections.shuffle(targets); // 같은 방 인원이 한꺼번에 재연결하지 않도록
+
+        long start = System.currentTimeMillis();
+        long step = closeWindowMs / targets.size();
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            gameSseService.sendLocalEvent(target.roomId(), target.playerId(), DRAINING_EVENT,
+                    Map.of("reconnectInMs", i * step));
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            long wait = start + i * step - System.currentTimeMillis();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            Target target = targets.get(i);
+            gameSseService.disconnectPlayer(target.roomId(), DRAINING_EVENT, target.playerId(), false);
+        }
+        log.info("종료 준비: SSE 연결 정리 완료: connections={}", targets.size());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        drain().join();
+        running = false;
+    }
+
+    /**
+     * 종료 시 drain이 끝난 뒤 다음 단계(웹 서버 종료)로 넘어감
+     */
+    @Override
+    public void stop(Runnable callback) {
+        drain().whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("노드 종료 준비 실패: error={}", error.getMessage());
+            }
+            running = false;
+            callback.run();
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 먼저 멈춤
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
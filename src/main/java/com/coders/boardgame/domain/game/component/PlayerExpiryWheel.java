@@ -0,0 +1,145 @@
+package com.coders.boardgame.domain.game.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어 ping 만료 시각을 관리하는 timing wheel
+ * 만료 시각(lastPingTime + threshold)이 속한 tick의 버킷에 플레이어를 넣고, tick마다 해당 버킷만 확인함
+ * ping 갱신은 만료 시각만 바꾸고 버킷은 옮기지 않음. 버킷을 처리할 때 아직 만료되지 않았으면 새 버킷으로 옮김
+ */
+@Component
+public class PlayerExpiryWheel {
+
+    /**
+     * 만료 대상 플레이어
+     */
+    public record PlayerKey(String roomId, Long playerId) {
+    }
+
+    private static final class Entry {
+        private final PlayerKey key;
+        private volatile long deadline;
+
+        private Entry(PlayerKey key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+
+    private final long tickMs;
+    private final long thresholdMs;
+    private final ArrayDeque<Entry>[] buckets;
+    private final Map<PlayerKey, Entry> entries = new ConcurrentHashMap<>();
+    private long currentTick; // 마지막으로 처리한 tick
+
+    @SuppressWarnings("unchecked")
+    public PlayerExpiryWheel(@Value("${game.ghost.tick-ms:5000}") long tickMs,
+                             @Value("${game.ghost.threshold-ms:150000}") long thresholdMs) {
+        this.tickMs = tickMs;
+        this.thresholdMs = thresholdMs;
+
+        // 만료 시각은 항상 현재로부터 threshold 이내이므로 한 바퀴가 threshold보다 길면 충분
+        int wheelSize = (int) (thresholdMs / tickMs) + 2;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTick = System.currentTimeMillis() / tickMs;
+    }
+
+    /**
+     * 플레이어 만료 등록 (입장 시)
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param lastPingTime 마지막 ping 시각
+     */
+    public void schedule(String roomId, Long playerId, long lastPingTime) {
+        Entry entry = new Entry(new PlayerKey(roomId, playerId), lastPingTime + thresholdMs);
+        entries.put(entry.key, entry);
+        synchronized (buckets) {
+            insert(entry);
+        }
+    }
+
+    /**
+     * ping 갱신, 만료 시각만 늦추고 버킷 이동은 해당 버킷을 처리할 때 함
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param lastPingTime 마지막 ping 시각
+     */
+    public void touch(String roomId, Long playerId, long lastPingTime) {
+        Entry entry = entries.get(new PlayerKey(roomId, playerId));
+        if (entry == null) {
+            schedule(roomId, playerId, lastPingTime);
+            return;
+        }
+        entry.deadline = lastPingTime + thresholdMs;
+    }
+
+    /**
+     * 플레이어 만료 해제 (퇴장 시), 버킷에 남은 항목은 처리 시점에 버려짐
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     */
+    public void remove(String roomId, Long playerId) {
+        entries.remove(new PlayerKey(roomId, playerId));
+    }
+
+    /**
+     * 현재 시각까지의 tick을 처리하고 만료된 플레이어 반환
+     * @param now 현재 시각
+     * @return 만료된 플레이어 목록 (wheel에서는 제거됨)
+     */
+    public List<PlayerKey> advance(long now) {
+        List<PlayerKey> expired = new ArrayList<>();
+        long targetTick = now / tickMs;
+
+        synchronized (buckets) {
+            // 한 바퀴 이상 밀렸으면 모든 버킷을 한번씩만 처리
+            long fromTick = Math.max(currentTick + 1, targetTick - buckets.length + 1);
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                currentTick = tick;
+                ArrayDeque<Entry> bucket = buckets[bucketIndex(tick)];
+                for (int i = bucket.size(); i > 0; i--) {
+                    Entry entry = bucket.pollFirst();
+                    if (entries.get(entry.key) != entry) {
+                        continue; // 퇴장했거나 다시 등록된 항목
+                    }
+                    if (entry.deadline <= now) {
+                        entries.remove(entry.key, entry);
+                        expired.add(entry.key);
+                    } else {
+                        insert(entry);
+                    }
+                }
+            }
+            currentTick = Math.max(currentTick, targetTick);
+        }
+        return expired;
+    }
+
+    /**
+     * 등록된 플레이어 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void insert(Entry entry) {
+        long tick = entry.deadline / tickMs;
+        tick = Math.max(tick, currentTick + 1);
+        tick = Math.min(tick, currentTick + buckets.length - 1);
+        buckets[bucketIndex(tick)].addLast(entry);
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) (tick % buckets.length);
+    }
+}
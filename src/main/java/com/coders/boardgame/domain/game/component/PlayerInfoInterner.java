@@ -0,0 +1,42 @@
+package com.coders.boardgame.domain.game.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방에 보관할 플레이어 정보 정리
+ * 한 반 학생들이 모두 같은 값을 갖는 학교 이름은 하나의 String을 공유
+ */
+@Component
+public class PlayerInfoInterner {
+
+    private final Map<String, String> schools = new ConcurrentHashMap<>();
+    private final int maxSchools; // 공유할 학교 이름 최대 수 (넘으면 공유하지 않고 그대로 사용)
+
+    public PlayerInfoInterner(@Value("${game.rooms.max-interned-schools:20000}") int maxSchools) {
+        this.maxSchools = maxSchools;
+    }
+
+    /**
+     * 방에 보관할 학교 이름
+     * @param school 요청으로 받은 학교 이름
+     * @return 공유된 학교 이름, 최대 수를 넘었으면 그대로, null이면 null
+     */
+    public String intern(String school) {
+        if (school == null) {
+            return null;
+        }
+        String shared = schools.get(school);
+        if (shared != null) {
+            return shared;
+        }
+        if (schools.size() >= maxSchools) {
+            return school;
+        }
+        shared = schools.putIfAbsent(school, school);
+        return shared != null ? shared : school;
+    }
+}
@@ -0,0 +1,164 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.cluster.RoomStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 8자리 방 코드 발급기
+ * 40비트 = 노드 번호 5비트 + 순번 35비트. 순번은 35비트 안에서 1:1 섞기(permutation)를 거쳐 연속된 방 코드가 비슷해 보이지 않게 함
+ * 섞기가 1:1이므로 같은 노드에서 순번이 다르면 코드도 항상 다르고, 노드 번호가 첫 글자가 되므로 노드 간에도 겹치지 않음
+ * 순번은 방 저장소에서 구간(ID_BLOCK_SIZE) 단위로 예약해서 씀. 재시작한 노드는 이전에 예약한 구간 다음부터 받으므로
+ * 다른 노드로 넘겨 아직 살아있는 방이나 journal에 남지 않은 방의 코드를 다시 발급하지 않음
+ * 사람이 입력하기 쉽도록 헷갈리는 글자(i, l, o, u)를 뺀 base32(Crockford) 소문자로 인코딩
+ */
+@Component
+public class RoomIdAllocator {
+
+    public static final int NODE_BITS = 5;
+    public static final int MAX_NODES = 1 << NODE_BITS;
+
+    private static final int SEQUENCE_BITS = 35;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int CODE_LENGTH = 8; // 40비트 / 5비트
+    private static final char[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+    private static final long ID_BLOCK_SIZE = 1024; // 방 저장소에서 한번에 예약하는 순번 수
+
+    // 섞기에 쓰는 홀수 곱셈 상수 (홀수이면 2^35 에서 역원이 있어 1:1)
+    private static final long MULTIPLIER_1 = 0x5DEECE66DL & SEQUENCE_MASK | 1L;
+    private static final long MULTIPLIER_2 = 0x2545F4914FL & SEQUENCE_MASK | 1L;
+    private static final long INVERSE_1 = inverse(MULTIPLIER_1);
+    private static final long INVERSE_2 = inverse(MULTIPLIER_2);
+
+    private final int nodeId;
+    private final long nodePrefix;
+    private final RoomStore roomStore;
+
+    // 다음에 발급할 순번과 예약한 구간의 끝 (this 락)
+    private long sequence;
+    private long reservedUntil;
+
+    public RoomIdAllocator(@Value("${game.node-id:0}") int nodeId, RoomStore roomStore) {
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            throw new IllegalArgumentException("game.node-id 는 0 ~ " + (MAX_NODES - 1) + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.nodePrefix = (long) nodeId << SEQUENCE_BITS;
+        this.roomStore = roomStore;
+    }
+
+    /**
+     * 새 방 코드 발급
+     * @return 8자리 방 코드
+     */
+    public synchronized String next() {
+        if (sequence >= reservedUntil) {
+            sequence = roomStore.reserveRoomIds(nodeId, sequence, ID_BLOCK_SIZE);
+            reservedUntil = sequence + ID_BLOCK_SIZE;
+        }
+        long seq = sequence++;
+        if (seq > SEQUENCE_MASK) {
+            throw new IllegalStateException("Room ID 생성에 실패했습니다: 순번 소진");
+        }
+        return encode(nodePrefix | permute(seq));
+    }
+
+    /**
+     * 이 노드가 이미 발급한 방 코드 다음 순번부터 발급 (재시작 후 복원한 방과 코드가 겹치지 않도록)
+     * 방 저장소가 재시작으로 비었더라도(단일 노드) journal에서 복원한 방과는 겹치지 않음
+     * @param roomId 복원한 방 코드
+     */
+    public synchronized void advancePast(String roomId) {
+        if (nodeOf(roomId) != nodeId) {
+            return;
+        }
+        long seq = unpermute(decode(roomId) & SEQUENCE_MASK);
+        if (seq >= sequence) {
+            sequence = seq + 1;
+            if (sequence > reservedUntil) {
+                reservedUntil = sequence; // 예약 구간을 벗어났으면 다음 발급 때 이 순번 이후로 다시 예약
+            }
+        }
+    }
+
+    /**
+     * 방 코드를 발급한 노드 번호
+     * @param roomId 방 코드
+     * @return 노드 번호, 이 발급기 형식이 아니면 -1
+     */
+    public static int nodeOf(String roomId) {
+        if (roomId == null || roomId.length() != CODE_LENGTH) {
+            return -1;
+        }
+        int index = indexOf(roomId.charAt(0));
+        return index < 0 ? -1 : index; // 첫 글자 5비트가 곧 노드 번호
+    }
+
+    /**
+     * 35비트 안에서의 1:1 섞기 (홀수 곱셈과 xorshift 모두 역연산이 있음)
+     */
+    static long permute(long value) {
+        long x = value & SEQUENCE_MASK;
+        x = (x * MULTIPLIER_1) & SEQUENCE_MASK;
+        x ^= x >>> 17;
+        x = (x * MULTIPLIER_2) & SEQUENCE_MASK;
+        x ^= x >>> 13;
+        return x;
+    }
+
+    /**
+     * permute 역연산
+     */
+    static long unpermute(long value) {
+        long x = value & SEQUENCE_MASK;
+        x = unshiftXor(x, 13);
+        x = (x * INVERSE_2) & SEQUENCE_MASK;
+        x = unshiftXor(x, 17);
+        x = (x * INVERSE_1) & SEQUENCE_MASK;
+        return x;
+    }
+
+    // x ^= x >>> shift 역연산 (위 비트부터 shift 비트씩 복원)
+    private static long unshiftXor(long value, int shift) {
+        long x = value;
+        for (int restored = shift; restored < SEQUENCE_BITS; restored += shift) {
+            x = value ^ (x >>> shift);
+        }
+        return x;
+    }
+
+    // 홀수의 2^64 곱셈 역원 (Newton 반복, 한번에 맞는 비트 수가 두배), 하위 35비트는 2^35 에서의 역원
+    private static long inverse(long odd) {
+        long x = odd;
+        for (int i = 0; i < 5; i++) {
+            x *= 2 - odd * x;
+        }
+        return x;
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(code);
+    }
+
+    private static long decode(String roomId) {
+        long value = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            value = (value << 5) | indexOf(roomId.charAt(i));
+        }
+        return value;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
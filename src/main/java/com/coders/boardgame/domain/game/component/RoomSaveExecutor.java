@@ -0,0 +1,93 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.exception.GameRoomException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 기록(journal) / 방 저장소 쓰기 전용 스레드
+ * 방 actor 스레드가 파일 쓰기 / force / Hazelcast 왕복에 막히지 않도록 actor는 스냅샷만 만들고 쓰기는 여기로 넘김
+ * 스레드 하나에서 넘긴 순서대로 실행하므로 같은 방의 기록 / 저장 / 삭제 순서가 바뀌지 않음
+ * 종료 시 journal보다 먼저 닫혀 남은 기록을 마저 씀
+ */
+@Slf4j
+@Component
+@DependsOn("roomJournal")
+public class RoomSaveExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 쓰기 작업을 순서대로 실행하도록 넘기고 바로 반환
+     * 종료 중이라 받지 않으면 호출한 스레드에서 실행
+     * @param task 쓰기 작업
+     */
+    public void execute(Runnable task) {
+        try {
+            executor.execute(() -> runSafely(task));
+        } catch (RejectedExecutionException e) {
+            runSafely(task);
+        }
+    }
+
+    /**
+     * 앞서 넘긴 쓰기가 끝난 뒤 작업을 실행하고 끝날 때까지 대기 (노드 이동처럼 저장이 끝나야 다음 단계로 갈 수 있는 경우)
+     * @param task 쓰기 작업
+     */
+    public void executeAndWait(Runnable task) {
+        CompletableFuture<Void> done;
+        try {
+            done = CompletableFuture.runAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            task.run();
+            return;
+        }
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new GameRoomException("방 저장에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 남은 쓰기를 마친 뒤 종료 (journal이 닫히기 전)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("방 저장 스레드가 제한 시간 안에 끝나지 않음");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("방 저장 작업 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 방 조회 응답(대기실 / 게임 상태) JSON 캐시
+ * 방 명령으로 방이 바뀌면(방 actor의 저장 시점) 새 버전을 발급하고, 그 사이 조회는 직렬화한 바이트를 그대로 돌려줌
+ * 버전은 ETag로 내려주며 If-None-Match가 같으면 컨트롤러(ResponseEntity)가 304로 응답
+ */
+@Component
+public class RoomViewCache {
+
+    /**
+     * 캐시된 응답
+     * @param etag 방 버전 ETag (따옴표 포함)
+     * @param json 직렬화된 응답 본문
+     */
+    public record CachedView(String etag, byte[] json) {
+    }
+
+    /**
+     * 방 버전 하나의 응답들, 처음 조회할 때 채움
+     * 버전이 바뀐 뒤 채워진 이전 버전 객체는 맵에서 빠져 있으므로 다시 쓰이지 않음
+     */
+    private static final class RoomViews {
+        private final String etag;
+        private volatile byte[] waitingRoom;
+        private volatile byte[] gameState;
+
+        private RoomViews(long version) {
+            this.etag = "\"" + version + "\"";
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, RoomViews> views = new ConcurrentHashMap<>();
+    // 재시작 후에도 이전 ETag와 겹치지 않도록 시작 시각(ms)을 위쪽 비트에 둠
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis() << 10);
+
+    public RoomViewCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 대기실 응답 (WaitingRoomDto)
+     * @param roomId 방 id
+     * @param builder 캐시가 없을 때 응답 생성
+     */
+    public CachedView waitingRoom(String roomId, Supplier<?> builder) {
+        RoomViews room = viewsOf(roomId);
+        byte[] json = room.waitingRoom;
+        if (json == null) {
+            json = serialize(builder.get());
+            room.waitingRoom = json;
+        }
+        return new CachedView(room.etag, json);
+    }
+
+    /**
+     * 게임 상태 응답 (GameStateDto)
+     * @param roomId 방 id
+     * @param builder 캐시가 없을 때 응답 생성
+     */
+    public CachedView gameState(String roomId, Supplier<?> builder) {
+        RoomViews room = viewsOf(roomId);
+        byte[] json = room.gameState;
+        if (json == null) {
+            json = serialize(builder.get());
+            room.gameState = json;
+        }
+        return new CachedView(room.etag, json);
+    }
+
+    /**
+     * 방이 바뀌었으므로 새 버전 발급 (방 actor에서 변경을 저장할 때 호출)
+     * 아직 조회하지 않은 방은 다음 조회 때 버전을 만듦
+     * @param roomId 방 id
+     */
+    public void invalidate(String roomId) {
+        views.computeIfPresent(roomId, (id, room) -> new RoomViews(versions.incrementAndGet()));
+    }
+
+    /**
+     * 방 삭제 / 다른 노드로 넘김
+     * @param roomId 방 id
+     */
+    public void remove(String roomId) {
+        views.remove(roomId);
+    }
+
+    /**
+     * 응답을 만들기 전에 버전을 먼저 가져옴
+     * 만드는 도중 방이 바뀌면 invalidate가 새 버전으로 바꾸므로, 바뀌기 전 상태가 새 버전으로 캐시되지 않음
+     */
+    private RoomViews viewsOf(String roomId) {
+        return views.computeIfAbsent(roomId, id -> new RoomViews(versions.incrementAndGet()));
+    }
+
+    private byte[] serialize(Object view) {
+        try {
+            return objectMapper.writeValueAsBytes(view);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("방 응답 직렬화 실패: " + e.getOriginalMessage(), e);
+        }
+    }
+}
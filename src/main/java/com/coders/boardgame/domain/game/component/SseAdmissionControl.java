@@ -0,0 +1,79 @@
+package com.coders.boardgame.domain.game.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 연결 요청 수 제한 (네트워크가 잠깐 끊긴 뒤 모든 클라이언트가 한꺼번에 재연결할 때)
+ * 노드 전체와 방별로 토큰 버킷을 두고, 둘 다 토큰이 있어야 연결을 받음
+ * 거절된 연결은 다음 토큰까지 남은 시간으로 재연결 대기 시간을 정해 돌려보냄
+ */
+@Slf4j
+@Component
+public class SseAdmissionControl {
+
+    private final TokenBucket nodeBucket;
+    private final Map<String, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+    private final double roomRate;
+    private final int roomBurst;
+    private final GameMetrics gameMetrics;
+
+    public SseAdmissionControl(@Value("${game.sse.admission.node-rate:500}") double nodeRate,
+                               @Value("${game.sse.admission.node-burst:1000}") int nodeBurst,
+                               @Value("${game.sse.admission.room-rate:2}") double roomRate,
+                               @Value("${game.sse.admission.room-burst:16}") int roomBurst,
+                               GameMetrics gameMetrics) {
+        this.nodeBucket = new TokenBucket(nodeRate, nodeBurst, System.nanoTime());
+        this.roomRate = roomRate;
+        this.roomBurst = roomBurst;
+        this.gameMetrics = gameMetrics;
+    }
+
+    /**
+     * 노드 전체 SSE 연결 요청 허용 여부 확인 (허용하면 토큰 사용)
+     * 방 조회 전에 호출해 재연결이 몰릴 때 조회 비용도 줄임
+     * @return 허용하면 0, 거절하면 토큰이 채워질 때까지 남은 시간 (ms)
+     */
+    public long admitNode() {
+        long nodeWait = nodeBucket.tryAcquire(System.nanoTime());
+        if (nodeWait > 0) {
+            gameMetrics.sseConnectThrottled("node");
+            return TimeUnit.NANOSECONDS.toMillis(nodeWait) + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * 방별 SSE 연결 요청 허용 여부 확인 (admitNode 허용 후, 방 조회가 성공한 뒤에 호출)
+     * 존재하는 방에만 버킷을 만들어 없는 방 id 요청으로 버킷이 늘어나지 않도록 함
+     * @param roomId 방 id
+     * @return 허용하면 0, 거절하면 토큰이 채워질 때까지 남은 시간 (ms), 거절하면 노드 토큰은 되돌림
+     */
+    public long admitRoom(String roomId) {
+        long now = System.nanoTime();
+        TokenBucket roomBucket = roomBuckets.computeIfAbsent(roomId, k -> new TokenBucket(roomRate, roomBurst, now));
+
+        long roomWait = roomBucket.tryAcquire(now);
+        if (roomWait > 0) {
+            nodeBucket.refund();
+            gameMetrics.sseConnectThrottled("room");
+            return TimeUnit.NANOSECONDS.toMillis(roomWait) + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * 가득 찬(한동안 연결 요청이 없던) 방 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${game.rooms.sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        roomBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
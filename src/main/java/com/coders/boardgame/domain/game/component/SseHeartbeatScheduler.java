@@ -0,0 +1,37 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.service.GameRoomService;
+import com.coders.boardgame.domain.game.service.GameSseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 열린 SSE 연결에 주기적으로 heartbeat 주석을 보내는 스케줄러
+ * 쓰기에 성공한 연결은 ping 시간을 갱신하고, 실패한 연결은 기존 연결 해제 흐름으로 처리됨
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    private final GameSseService gameSseService;
+    private final GameRoomService gameRoomService;
+    private final long heartbeatIntervalMs;
+
+    public SseHeartbeatScheduler(GameSseService gameSseService,
+                                 GameRoomService gameRoomService,
+                                 @Value("${game.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        this.gameSseService = gameSseService;
+        this.gameRoomService = gameRoomService;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @Scheduled(fixedRateString = "${game.sse.heartbeat-interval-ms:15000}",
+            initialDelayString = "${game.sse.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        // 직전 주기의 heartbeat가 늦게 써졌을 수 있으므로 두 주기까지 허용
+        long aliveSince = System.currentTimeMillis() - heartbeatIntervalMs * 2;
+        gameSseService.sendHeartbeats(aliveSince, gameRoomService::refreshPingTime);
+    }
+}
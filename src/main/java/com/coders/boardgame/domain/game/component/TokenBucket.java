@@ -0,0 +1,56 @@
+package com.coders.boardgame.domain.game.component;
+
+/**
+ * 토큰 버킷 (초당 rate개씩 채워지고 최대 burst개까지 쌓임)
+ * 요청 하나에 토큰 하나를 쓰며, 토큰이 없으면 다음 토큰이 채워질 때까지 기다려야 함
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 사용했으면 0, 토큰이 없으면 다음 토큰까지 남은 시간 (ns)
+     */
+    synchronized long tryAcquire(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * 사용한 토큰 되돌림 (다른 버킷에서 거절된 경우)
+     */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * 한동안 쓰지 않아 가득 찼는지 (정리 대상)
+     */
+    synchronized boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.coders.boardgame.domain.game.controller;
 
+import com.coders.boardgame.domain.game.component.RoomViewCache;
 import com.coders.boardgame.domain.game.dto.*;
 import com.coders.boardgame.domain.user.service.SessionService;
 import com.coders.boardgame.domain.game.service.GameService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,18 +26,42 @@ public class GameController {
 
     /**
      * 게임 상태 조희 API
+     * 방 버전을 ETag로 보내고, If-None-Match가 같으면 본문 없이 304
      *
      * @param roomId  방 정보
      * @param request 클라이언트 요청 객체
-     * @return
+     * @return GameStateDto JSON
      */
     @GetMapping("/{roomId}/state")
-    public ResponseEntity<GameStateDto> getGameState(@PathVariable String roomId, HttpServletRequest request) {
+    public ResponseEntity<byte[]> getGameState(@PathVariable String roomId, HttpServletRequest request) {
 
         Long userId = sessionService.getUserIdFromSession(request);
-        GameStateDto gameState = gameService.getGameState(roomId, userId);
-        return ResponseEntity.ok(gameState);
+        RoomViewCache.CachedView gameState = gameService.getGameState(roomId, userId);
+        return ResponseEntity.ok()
+                .eTag(gameState.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(gameState.json());
+
+    }
 
+    /**
+     * 게임 상태 변경 조회 API
+     * since 버전 이후의 state-delta 목록을 반환하고, 너무 오래된 버전이면 전체 상태를 함께 반환
+     *
+     * @param roomId  방 정보
+     * @param since   클라이언트가 가진 상태 버전
+     * @param request 클라이언트 요청 객체
+     * @return
+     */
+    @GetMapping("/{roomId}/state/changes")
+    public ResponseEntity<GameStateChangesDto> getGameStateChanges(@PathVariable String roomId,
+                                                                   @RequestParam long since,
+                                                                   HttpServletRequest request) {
+
+        Long userId = sessionService.getUserIdFromSession(request);
+        GameStateChangesDto changes = gameService.getGameStateChanges(roomId, userId, since);
+        return ResponseEntity.ok(changes);
     }
 
     /**
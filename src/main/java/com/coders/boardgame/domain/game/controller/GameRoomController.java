@@ -1,5 +1,6 @@
 package com.coders.boardgame.domain.game.controller;
 
+import com.coders.boardgame.domain.game.component.RoomViewCache;
 import com.coders.boardgame.domain.game.dto.*;
 import com.coders.boardgame.domain.game.service.GameRoomService;
 import com.coders.boardgame.domain.user.service.SessionService;
@@ -7,6 +8,7 @@ import com.coders.boardgame.exception.GameRoomException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,14 +41,18 @@ public class GameRoomController {
 
     /**
      * 방 정보 조회 API
+     * 방 버전을 ETag로 보내고, If-None-Match가 같으면 본문 없이 304
      * @param roomId 방ID
-     * @return GameRoomDto 객체
+     * @return WaitingRoomDto JSON
      */
     @GetMapping("/{roomId}")
-    public ResponseEntity<WaitingRoomDto> getGameRoom(@PathVariable String roomId) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-        WaitingRoomDto waitingRoomDto = gameRoomService.buildWaitingRoomDto(room);
-        return ResponseEntity.ok(waitingRoomDto);
+    public ResponseEntity<byte[]> getGameRoom(@PathVariable String roomId) {
+        RoomViewCache.CachedView view = gameRoomService.getWaitingRoomView(roomId);
+        return ResponseEntity.ok()
+                .eTag(view.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(view.json());
     }
 
     /**
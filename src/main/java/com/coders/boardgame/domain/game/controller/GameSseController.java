@@ -8,7 +8,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -24,11 +26,16 @@ public class GameSseController {
     /**
      * 방과 SSE 연결
      * @param roomId 방 id
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id
+     * @param sinceVersion 재연결 시 마지막으로 받은 방 상태 버전 (게임 중이면 전체 상태 대신 변경분만 받음)
      * @param request request 객체
      * @return emitter 객체
      */
     @GetMapping(value = "/rooms/connect/{roomId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connectToRoom(@PathVariable String roomId, HttpServletRequest request){
-        return gameRoomService.connectToRoom(roomId, sessionService.getUserIdFromSession(request));
+    public SseEmitter connectToRoom(@PathVariable String roomId,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                    @RequestParam(value = "since", required = false) Long sinceVersion,
+                                    HttpServletRequest request){
+        return gameRoomService.connectToRoom(roomId, sessionService.getUserIdFromSession(request), lastEventId, sinceVersion);
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * SSE 연결 결과를 나타내는 레코드
+ * isResumed: Last-Event-ID 이후 놓친 이벤트를 재전송했는지 여부 (true면 전체 상태 재전송 불필요)
  */
-public record ConnectionResult(SseEmitter emitter, boolean isReconnecting) {
+public record ConnectionResult(SseEmitter emitter, boolean isReconnecting, boolean isResumed) {
 }
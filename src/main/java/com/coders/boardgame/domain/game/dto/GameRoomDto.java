@@ -2,12 +2,15 @@ package com.coders.boardgame.domain.game.dto;
 
 import com.coders.boardgame.domain.game.enums.GamePhase;
 import com.coders.boardgame.domain.game.enums.RoomStatus;
+import com.coders.boardgame.domain.game.enums.StateDeltaType;
+import com.coders.boardgame.domain.user.dto.UserDto;
 import lombok.*;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 서버 내부에서 상태 관리 및 로직 처리용
@@ -21,9 +24,9 @@ public class GameRoomDto {
     private String roomId;  // 방 Id
     private String roomName; // 방 이름
     private int totalPlayers; // 최대 플레이어 수
-    private AtomicInteger currentPlayers; // 현재 플레이어 수
+    private volatile int currentPlayers; // 현재 플레이어 수 (방 actor에서만 변경)
     private Long hostId;  // 방장  Id
-    private Map<Long, PlayerDto> players = new ConcurrentHashMap<>();
+    private PlayerSeats players; // 자리 번호별 플레이어 상태
     private int currentTurn; // 현재 턴을 수행중인 플레이어의 순번
     private int totalPuzzlePieces; // 총 퍼즐 조각 개수
     private int currentPuzzlePieces; // 현재 획득한 퍼즐 조각 개수
@@ -34,9 +37,257 @@ public class GameRoomDto {
     private boolean isPictureCardAssigned = false;
     private boolean isTextCardAssigned = false;
     private boolean hasReVoted = false;
-    private Long[] seats;
 
     @Builder.Default
     private GamePhase currentPhase = GamePhase.NONE;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private int[] turnOrder = NO_TURN_ORDER; // 순번별 자리 번호 (index = 순번 - 1), setUsageTime 에서 한번 생성
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private int currentSpeakerSeat = PlayerSeats.NO_SEAT; // 현재 발화자 자리
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private VoteBoard voteBoard; // 자리 번호별 투표판, 처음 투표할 때 생성
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private volatile long lastActiveTime = System.currentTimeMillis(); // 마지막으로 명령 / 연결이 있었던 시각
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean unsaved; // 방 저장소에 아직 저장하지 않은 변경이 있는지 (방 actor에서만 사용)
+
+    private static final int[] NO_TURN_ORDER = new int[0];
+
+    // 보관할 최근 상태 변경 수
+    private static final int STATE_HISTORY_SIZE = 64;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private long stateVersion = 0; // 상태 버전, 변경마다 1씩 증가
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Deque<GameStateDeltaDto> stateHistory = new ArrayDeque<>(); // 최근 상태 변경 목록
+
+    /**
+     * 방 활동 시각 갱신 (방치된 방 판단용)
+     */
+    public void touch() {
+        this.lastActiveTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 마지막 활동 시각 (epoch ms)
+     */
+    public long getLastActiveTime() {
+        return lastActiveTime;
+    }
+
+    /**
+     * 정렬된 자리 순서대로 순번(1부터)을 매기고 순번 배열 생성
+     * @param orderedSeats 순번 순서대로 정렬된 자리 번호
+     */
+    public void assignTurnOrder(int[] orderedSeats) {
+        for (int i = 0; i < orderedSeats.length; i++) {
+            players.setSequenceNumber(orderedSeats[i], i + 1);
+        }
+        this.turnOrder = orderedSeats;
+    }
+
+    /**
+     * 순번으로 자리 조회
+     * @param sequenceNumber 순번 (1부터)
+     * @return 자리 번호, 순번이 없으면 NO_SEAT
+     */
+    public int getSeatAt(int sequenceNumber) {
+        if (sequenceNumber < 1 || sequenceNumber > turnOrder.length) {
+            return PlayerSeats.NO_SEAT;
+        }
+        return turnOrder[sequenceNumber - 1];
+    }
+
+    /**
+     * 현재 발화자 자리, 없으면 NO_SEAT
+     */
+    public int getCurrentSpeakerSeat() {
+        return currentSpeakerSeat;
+    }
+
+    /**
+     * 발화자 변경
+     * @param seat 새 발화자 자리
+     */
+    public void changeSpeaker(int seat) {
+        this.currentSpeakerSeat = seat;
+    }
+
+    /**
+     * 자리 비우기
+     * 순번이 배치된 뒤 나가면 게임이 중단되므로 순번과 발화자도 초기화 (빈 자리에 새로 들어온 플레이어에게 남지 않도록)
+     * @param seat 자리 번호
+     */
+    public void vacateSeat(int seat) {
+        players.vacate(seat);
+        if (turnOrder.length > 0) {
+            clearTurnOrder();
+        }
+    }
+
+    /**
+     * 응답 / 이벤트로 보낼 플레이어 정보 생성
+     * @param seat 자리 번호
+     * @return 플레이어 정보, 빈 자리면 null
+     */
+    public PlayerDto toPlayerDto(int seat) {
+        if (seat == PlayerSeats.NO_SEAT || !players.isOccupied(seat)) {
+            return null;
+        }
+        UserDto info = new UserDto();
+        info.setName(players.getName(seat));
+        info.setSchool(players.getSchool(seat));
+        info.setGender(players.getGender(seat));
+
+        return PlayerDto.builder()
+                .playerId(players.getPlayerId(seat))
+                .avatarId(players.getAvatarId(seat))
+                .playerInfo(info)
+                .sequenceNumber(players.getSequenceNumber(seat))
+                .collectedPuzzlePieces(players.getPuzzlePieces(seat))
+                .isSpeaking(seat == currentSpeakerSeat)
+                .usageTime(players.getUsageTime(seat))
+                .surveyScore(players.getSurveyScore(seat))
+                .isReady(players.isReady(seat))
+                .seatIndex(seat)
+                .lastPingTime(players.getLastPingTime(seat))
+                .build();
+    }
+
+    /**
+     * 앉은 플레이어 전원의 정보 (자리 순)
+     */
+    public List<PlayerDto> toPlayerDtos() {
+        List<PlayerDto> result = new ArrayList<>(currentPlayers);
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.isOccupied(seat)) {
+                result.add(toPlayerDto(seat));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 방의 투표판, 없으면 자리 수만큼 생성
+     */
+    public VoteBoard getVoteBoard() {
+        if (voteBoard == null) {
+            voteBoard = new VoteBoard(players.size());
+        }
+        return voteBoard;
+    }
+
+    /**
+     * 이미 생성된 투표판, 없으면 null
+     */
+    public VoteBoard findVoteBoard() {
+        return voteBoard;
+    }
+
+    /**
+     * 진행중인 투표 초기화
+     */
+    public void clearVotes() {
+        if (voteBoard != null) {
+            voteBoard.clear();
+        }
+    }
+
+    /**
+     * 순번 배열과 발화자 초기화
+     */
+    public void clearTurnOrder() {
+        this.currentSpeakerSeat = PlayerSeats.NO_SEAT;
+        this.turnOrder = NO_TURN_ORDER;
+    }
+
+    /**
+     * 상태 변경 기록(state-delta)이 남지 않는 변경 표시 (사용 시간 입력, 투표 등)
+     */
+    public void markUnsaved() {
+        this.unsaved = true;
+    }
+
+    /**
+     * 저장하지 않은 변경이 있으면 표시를 지우고 true 반환
+     */
+    public boolean clearUnsaved() {
+        boolean was = unsaved;
+        this.unsaved = false;
+        return was;
+    }
+
+    /**
+     * 상태 변경 기록 후 새 버전 발급
+     * @param type 변경 종류
+     * @param changes 변경된 필드
+     * @return 버전이 붙은 변경
+     */
+    public GameStateDeltaDto appendStateDelta(StateDeltaType type, Map<String, Object> changes) {
+        synchronized (stateHistory) {
+            GameStateDeltaDto delta = new GameStateDeltaDto(++stateVersion, type, changes);
+            unsaved = true;
+            stateHistory.addLast(delta);
+            if (stateHistory.size() > STATE_HISTORY_SIZE) {
+                stateHistory.removeFirst();
+            }
+            return delta;
+        }
+    }
+
+    /**
+     * 현재 상태 버전
+     */
+    public long getStateVersion() {
+        synchronized (stateHistory) {
+            return stateVersion;
+        }
+    }
+
+    /**
+     * sinceVersion 이후 상태 변경 조회
+     * @param sinceVersion 클라이언트가 가진 상태 버전
+     * @return 변경 목록, 보관 범위를 벗어났으면 null
+     */
+    public List<GameStateDeltaDto> getStateDeltasSince(long sinceVersion) {
+        synchronized (stateHistory) {
+            if (sinceVersion > stateVersion || sinceVersion < 0) {
+                return null;
+            }
+            if (sinceVersion == stateVersion) {
+                return List.of();
+            }
+            GameStateDeltaDto oldest = stateHistory.peekFirst();
+            if (oldest == null || oldest.getVersion() > sinceVersion + 1) {
+                return null;
+            }
+
+            List<GameStateDeltaDto> deltas = new ArrayList<>((int) (stateVersion - sinceVersion));
+            for (GameStateDeltaDto delta : stateHistory) {
+                if (delta.getVersion() > sinceVersion) {
+                    deltas.add(delta);
+                }
+            }
+            return deltas;
+        }
+    }
+
 }
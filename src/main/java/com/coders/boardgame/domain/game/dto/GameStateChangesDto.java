@@ -0,0 +1,19 @@
+package com.coders.boardgame.domain.game.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 특정 버전 이후의 게임 상태 변경 응답
+ * 요청한 버전이 보관 범위를 벗어났으면 deltas 대신 snapshot을 채워서 반환
+ */
+@Getter
+@Builder
+public class GameStateChangesDto {
+    private String roomId;
+    private long version; // 현재 상태 버전
+    private List<GameStateDeltaDto> deltas; // sinceVersion 이후 변경 목록
+    private GameStateDto snapshot; // 전체 상태 (delta로 따라잡을 수 없을 때만)
+}
@@ -0,0 +1,19 @@
+package com.coders.boardgame.domain.game.dto;
+
+import com.coders.boardgame.domain.game.enums.StateDeltaType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 게임 상태 변경 한 건
+ * version 순서대로 적용하면 이전 버전의 GameStateDto를 최신으로 맞출 수 있음
+ */
+@Getter
+@AllArgsConstructor
+public class GameStateDeltaDto {
+    private long version; // 변경 후 상태 버전
+    private StateDeltaType type; // 변경 종류
+    private Map<String, Object> changes; // 변경된 필드
+}
@@ -21,4 +21,5 @@ public class GameStateDto {
     private GamePhase currentPhase;
     private int assignedPictureCardId;
     private int assignedTextCardId;
+    private long stateVersion; // 스냅샷 시점의 상태 버전 (이후 state-delta 적용 기준)
 }
@@ -0,0 +1,258 @@
+package com.coders.boardgame.domain.game.dto;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * 방 하나의 플레이어 상태
+ * 플레이어마다 PlayerDto / UserDto / Map 노드를 두지 않고 자리 번호(seatIndex)별 배열에 값만 보관
+ * 학교 이름은 PlayerInfoInterner로 공유한 String을 참조하고, PlayerDto는 응답 / 이벤트로 보낼 때만 생성 (GameRoomDto.toPlayerDto)
+ * 방 상태는 방 actor에서만 바뀌므로 별도 동기화는 하지 않음 (ping 시각 / 참가 여부 조회는 actor 밖에서도 자리 값 하나씩만 읽고 씀)
+ */
+public class PlayerSeats {
+
+    // 빈 자리 표시 (플레이어 id는 1부터)
+    public static final long EMPTY_SEAT = 0L;
+
+    // 자리 없음
+    public static final int NO_SEAT = -1;
+
+    private final long[] playerIds;     // 자리별 플레이어 id, 빈 자리는 EMPTY_SEAT
+    private final int[] avatarIds;
+    private final String[] names;
+    private final String[] schools;     // 공유된 학교 이름
+    private final int[] genders;
+    private final int[] sequenceNumbers; // 게임 내 순번
+    private final int[] puzzlePieces;   // 플레이어가 모은 퍼즐 조각 수
+    private final int[] usageTimes;     // 스마트폰 이용시간(분)
+    private final int[] surveyScores;   // 이용습관 진단지 점수
+    private final boolean[] ready;      // 준비완료 여부
+    private final long[] lastPingTimes; // 마지막 ping 받은 시각 (밀리초)
+
+    public PlayerSeats(int seats) {
+        this.playerIds = new long[seats];
+        this.avatarIds = new int[seats];
+        this.names = new String[seats];
+        this.schools = new String[seats];
+        this.genders = new int[seats];
+        this.sequenceNumbers = new int[seats];
+        this.puzzlePieces = new int[seats];
+        this.usageTimes = new int[seats];
+        this.surveyScores = new int[seats];
+        this.ready = new boolean[seats];
+        this.lastPingTimes = new long[seats];
+    }
+
+    /**
+     * 좌석 수
+     */
+    public int size() {
+        return playerIds.length;
+    }
+
+    /**
+     * 자리에 플레이어 배정, 게임 상태 값은 0으로 시작
+     * @param seat 자리 번호
+     * @param playerId 플레이어 id
+     * @param avatarId 아바타 id
+     * @param name 이름
+     * @param school 학교 이름 (PlayerInfoInterner로 공유한 String)
+     * @param gender 성별
+     * @param surveyScore 이용습관 진단지 점수
+     * @param now 참가 시각 (첫 ping 시각)
+     */
+    public void seat(int seat, long playerId, int avatarId, String name, String school, int gender,
+                     int surveyScore, long now) {
+        avatarIds[seat] = avatarId;
+        names[seat] = name;
+        schools[seat] = school;
+        genders[seat] = gender;
+        sequenceNumbers[seat] = 0;
+        puzzlePieces[seat] = 0;
+        usageTimes[seat] = 0;
+        surveyScores[seat] = surveyScore;
+        ready[seat] = false;
+        lastPingTimes[seat] = now;
+        playerIds[seat] = playerId;
+    }
+
+    /**
+     * 자리 비우기
+     * @param seat 자리 번호
+     */
+    public void vacate(int seat) {
+        playerIds[seat] = EMPTY_SEAT;
+        names[seat] = null;
+        schools[seat] = null;
+    }
+
+    /**
+     * 플레이어의 자리 번호
+     * @param playerId 플레이어 id
+     * @return 자리 번호, 방에 없으면 NO_SEAT
+     */
+    public int seatOf(Long playerId) {
+        if (playerId == null) {
+            return NO_SEAT;
+        }
+        for (int seat = 0; seat < playerIds.length; seat++) {
+            if (playerIds[seat] == playerId) {
+                return seat;
+            }
+        }
+        return NO_SEAT;
+    }
+
+    public boolean contains(Long playerId) {
+        return seatOf(playerId) != NO_SEAT;
+    }
+
+    /**
+     * 첫 빈 자리, 없으면 NO_SEAT
+     */
+    public int firstEmptySeat() {
+        for (int seat = 0; seat < playerIds.length; seat++) {
+            if (playerIds[seat] == EMPTY_SEAT) {
+                return seat;
+            }
+        }
+        return NO_SEAT;
+    }
+
+    /**
+     * 첫 플레이어가 앉은 자리, 아무도 없으면 NO_SEAT
+     */
+    public int firstOccupiedSeat() {
+        for (int seat = 0; seat < playerIds.length; seat++) {
+            if (playerIds[seat] != EMPTY_SEAT) {
+                return seat;
+            }
+        }
+        return NO_SEAT;
+    }
+
+    public boolean isEmpty() {
+        return firstOccupiedSeat() == NO_SEAT;
+    }
+
+    public boolean isOccupied(int seat) {
+        return playerIds[seat] != EMPTY_SEAT;
+    }
+
+    /**
+     * 앉은 플레이어 전원이 준비완료했는지 확인
+     */
+    public boolean allReady() {
+        for (int seat = 0; seat < playerIds.length; seat++) {
+            if (playerIds[seat] != EMPTY_SEAT && !ready[seat]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 앉은 플레이어 전원이 사용 시간을 입력했는지 확인
+     */
+    public boolean allUsageTimesSet() {
+        for (int seat = 0; seat < playerIds.length; seat++) {
+            if (playerIds[seat] != EMPTY_SEAT && usageTimes[seat] <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 게임 진행중 플레이어 상태 초기화 (퍼즐 조각 / 순번 / 사용 시간)
+     * @param seat 자리 번호
+     */
+    public void resetGameState(int seat) {
+        puzzlePieces[seat] = 0;
+        sequenceNumbers[seat] = 0;
+        usageTimes[seat] = 0;
+    }
+
+    /**
+     * 학교 이름을 공유된 String으로 교체 (스냅샷으로 복원한 방)
+     * @param interner 학교 이름 공유
+     */
+    public void internSchools(UnaryOperator<String> interner) {
+        for (int seat = 0; seat < schools.length; seat++) {
+            if (schools[seat] != null) {
+                schools[seat] = interner.apply(schools[seat]);
+            }
+        }
+    }
+
+    /**
+     * 앉은 플레이어 id 목록 (자리 순)
+     */
+    public long[] playerIds() {
+        return Arrays.stream(playerIds).filter(id -> id != EMPTY_SEAT).toArray();
+    }
+
+    public long getPlayerId(int seat) {
+        return playerIds[seat];
+    }
+
+    public int getAvatarId(int seat) {
+        return avatarIds[seat];
+    }
+
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    public String getSchool(int seat) {
+        return schools[seat];
+    }
+
+    public int getGender(int seat) {
+        return genders[seat];
+    }
+
+    public int getSequenceNumber(int seat) {
+        return sequenceNumbers[seat];
+    }
+
+    public void setSequenceNumber(int seat, int sequenceNumber) {
+        sequenceNumbers[seat] = sequenceNumber;
+    }
+
+    public int getPuzzlePieces(int seat) {
+        return puzzlePieces[seat];
+    }
+
+    public void setPuzzlePieces(int seat, int pieces) {
+        puzzlePieces[seat] = pieces;
+    }
+
+    public int getUsageTime(int seat) {
+        return usageTimes[seat];
+    }
+
+    public void setUsageTime(int seat, int usageTime) {
+        usageTimes[seat] = usageTime;
+    }
+
+    public int getSurveyScore(int seat) {
+        return surveyScores[seat];
+    }
+
+    public boolean isReady(int seat) {
+        return ready[seat];
+    }
+
+    public void setReady(int seat, boolean isReady) {
+        ready[seat] = isReady;
+    }
+
+    public long getLastPingTime(int seat) {
+        return lastPingTimes[seat];
+    }
+
+    public void setLastPingTime(int seat, long lastPingTime) {
+        lastPingTimes[seat] = lastPingTime;
+    }
+}
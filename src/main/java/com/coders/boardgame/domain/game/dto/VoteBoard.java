@@ -0,0 +1,106 @@
+package com.coders.boardgame.domain.game.dto;
+
+import com.coders.boardgame.domain.game.enums.VoteChoice;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 방 하나의 투표판
+ * 자리 번호(seatIndex)별 투표를 byte 배열에 두고 찬성 / 반대 / 투표 수를 바로 갱신해 집계에 할당이 없도록 함
+ * 방 상태는 방 actor에서만 바뀌므로 별도 동기화는 하지 않음
+ */
+@Getter
+public class VoteBoard {
+
+    private static final byte NONE = 0;
+    private static final byte AGREE = 1;
+    private static final byte DISAGREE = 2;
+
+    @Getter(AccessLevel.NONE)
+    private final byte[] votes; // 자리 번호별 투표
+    private int agreeCount;     // 찬성 수
+    private int disagreeCount;  // 반대 수
+    private int castCount;      // 투표한 인원 수
+
+    public VoteBoard(int seats) {
+        this.votes = new byte[seats];
+    }
+
+    /**
+     * 투표 기록, 같은 자리에서 다시 투표하면 이전 투표를 대체
+     * @param seatIndex 투표한 플레이어의 자리 번호
+     * @param choice 투표 선택지
+     */
+    public void cast(int seatIndex, VoteChoice choice) {
+        byte previous = votes[seatIndex];
+        byte next = choice == VoteChoice.AGREE ? AGREE : DISAGREE;
+        if (previous == next) {
+            return;
+        }
+
+        if (previous == NONE) {
+            castCount++;
+        } else if (previous == AGREE) {
+            agreeCount--;
+        } else {
+            disagreeCount--;
+        }
+
+        if (next == AGREE) {
+            agreeCount++;
+        } else {
+            disagreeCount++;
+        }
+        votes[seatIndex] = next;
+    }
+
+    /**
+     * 해당 자리가 반대표를 던졌는지 확인
+     * @param seatIndex 자리 번호
+     */
+    public boolean isDisagree(int seatIndex) {
+        return votes[seatIndex] == DISAGREE;
+    }
+
+    /**
+     * 좌석 수
+     */
+    public int size() {
+        return votes.length;
+    }
+
+    /**
+     * 자리 번호별 투표 복사본 (방 저장소 저장용)
+     */
+    public byte[] toBytes() {
+        return votes.clone();
+    }
+
+    /**
+     * 저장된 자리 번호별 투표로 투표판 복원
+     * @param votes toBytes 결과
+     */
+    public static VoteBoard fromBytes(byte[] votes) {
+        VoteBoard board = new VoteBoard(votes.length);
+        for (int i = 0; i < votes.length; i++) {
+            if (votes[i] == AGREE) {
+                board.cast(i, VoteChoice.AGREE);
+            } else if (votes[i] == DISAGREE) {
+                board.cast(i, VoteChoice.DISAGREE);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * 투표판 초기화
+     */
+    public void clear() {
+        Arrays.fill(votes, NONE);
+        agreeCount = 0;
+        disagreeCount = 0;
+        castCount = 0;
+    }
+}
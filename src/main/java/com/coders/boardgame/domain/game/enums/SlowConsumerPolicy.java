@@ -0,0 +1,10 @@
+package com.coders.boardgame.domain.game.enums;
+
+/**
+ * SSE 전송 큐가 가득 찼을 때 처리 방식
+ */
+public enum SlowConsumerPolicy {
+    DROP, // 새 이벤트를 버림
+    COALESCE, // 상태 스냅샷 이벤트면 같은 이름의 대기중인 이벤트를 최신 이벤트로 교체, 교체할 수 없으면 DISCONNECT
+    DISCONNECT // 연결을 끊고 비정상 종료 처리
+}
@@ -0,0 +1,19 @@
+package com.coders.boardgame.domain.game.enums;
+
+/**
+ * 게임 상태 변경(delta) 종류
+ */
+public enum StateDeltaType {
+    STATUS_CHANGED, // 방 상태 변경 (roomStatus)
+    PLAYER_JOINED, // 플레이어 입장 (player)
+    PLAYER_LEFT, // 플레이어 퇴장 (playerId)
+    HOST_CHANGED, // 방장 변경 (hostId)
+    READY_CHANGED, // 준비 상태 변경 (playerId, ready)
+    ORDER_ASSIGNED, // 순번 배정 (order: playerId -> sequenceNumber)
+    ROUND_STARTED, // 라운드 시작 (round, phase, speakerId)
+    PHASE_CHANGED, // 진행 단계 변경 (phase)
+    CARD_ASSIGNED, // 카드 부여 (cardType, cardId)
+    PUZZLE_PIECE_GAINED, // 퍼즐 조각 획득 (playerId, playerPieces, roomPieces)
+    TURN_ADVANCED, // 다음 턴 (turn, speakerId, phase)
+    GAME_RESET // 게임 상태 초기화, 전체 상태를 다시 받아야 함
+}
@@ -0,0 +1,31 @@
+package com.coders.boardgame.domain.game.enums;
+
+public enum VoteChoice {
+    AGREE("agree"),
+    DISAGREE("disagree");
+
+    private final String value; // 요청 / 이벤트에서 쓰는 값
+
+    VoteChoice(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 요청 값으로 투표 선택지 조회
+     * @param value "agree" 또는 "disagree"
+     * @return 투표 선택지, 알 수 없는 값이면 null
+     */
+    public static VoteChoice from(String value) {
+        if (AGREE.value.equals(value)) {
+            return AGREE;
+        }
+        if (DISAGREE.value.equals(value)) {
+            return DISAGREE;
+        }
+        return null;
+    }
+}
@@ -1,14 +1,21 @@
 package com.coders.boardgame.domain.game.event;
 
+import com.coders.boardgame.domain.game.cluster.RoomOwnership;
 import com.coders.boardgame.domain.game.dto.GameRoomDto;
 import com.coders.boardgame.domain.game.service.GameRoomService;
 import com.coders.boardgame.domain.game.service.GameService;
+import com.coders.boardgame.domain.game.sse.RoomSignal;
 import com.coders.boardgame.exception.GameRoomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+/**
+ * 게임 도메인 이벤트 리스너
+ * 이벤트를 발행한 스레드(SSE 콜백, 요청 스레드)를 막지 않도록 applicationTaskExecutor에서 비동기로 처리
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -16,18 +23,20 @@ public class GameEventListener {
 
     private final GameService gameService;
     private final GameRoomService gameRoomService;
+    private final RoomOwnership roomOwnership;
 
     /**
      * 플레이어가 비정상적으로 연결이 끊긴 경우 이벤트 처리
      * @param event
      */
+    @Async("applicationTaskExecutor")
     @EventListener
     public void handlePlayerDisconnected(PlayerDisconnectedEvent event){
         // 의도적으로 끊김이면 여기서 처리할 필요없이 return
         if (!event.isUnexpected()) {
             return;
         }
-        gameRoomService.leaveRoom(event.getRoomId(), event.getPlayerId(), false);
+        gameRoomService.handlePlayerDisconnected(event.getRoomId(), event.getPlayerId(), null);
     }
 
     /**
@@ -35,6 +44,7 @@ public class GameEventListener {
      * @param event
      */
 
+    @Async("applicationTaskExecutor")
     @EventListener
     public void handleGameEnded(GameEndedEvent event){
         String roomId = event.getRoomId();
@@ -43,8 +53,39 @@ public class GameEventListener {
 
     }
 
+    @Async("applicationTaskExecutor")
     @EventListener
     public void handlePlayerReadyCanceled(PlayerReadyCanceledEvent event) {
         gameRoomService.cancelPlayerReadyStatus(event.getRoomId(), event.getPlayerId());
     }
+
+    /**
+     * 다른 노드에 연결된 플레이어의 연결 / 끊김 처리 (이 노드가 담당하는 방), 종료 준비 중인 노드를 ring에서 뺌
+     * @param event
+     */
+    @Async("applicationTaskExecutor")
+    @EventListener
+    public void handleRoomSignalReceived(RoomSignalReceivedEvent event) {
+        RoomSignal signal = event.getSignal();
+        try {
+            switch (signal.type()) {
+                case CONNECTED -> gameRoomService.handleRemotePlayerConnected(signal);
+                case DISCONNECTED -> gameRoomService.handlePlayerDisconnected(
+                        signal.roomId(), signal.playerId(), signal.fromNode());
+                case NODE_LEAVING -> roomOwnership.markLeaving(signal.fromNode());
+            }
+        } catch (GameRoomException e) {
+            log.debug("연결 알림 처리 실패: signal={}, error={}", signal, e.getMessage());
+        }
+    }
+
+    /**
+     * 클러스터 노드 구성이 바뀌면 다른 노드가 담당하게 된 방을 넘김
+     * @param event
+     */
+    @Async("applicationTaskExecutor")
+    @EventListener
+    public void handleRoomOwnershipChanged(RoomOwnershipChangedEvent event) {
+        gameRoomService.handOffForeignRooms();
+    }
 }
@@ -0,0 +1,20 @@
+package com.coders.boardgame.domain.game.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * 클러스터 노드 구성이 바뀌어 방 담당 노드가 달라졌을 때 발생하는 이벤트
+ */
+@Getter
+public class RoomOwnershipChangedEvent extends ApplicationEvent {
+    private final Set<String> members;
+
+    public RoomOwnershipChangedEvent(Object source, Set<String> members) {
+        super(source);
+        this.members = members;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.coders.boardgame.domain.game.event;
+
+import com.coders.boardgame.domain.game.sse.RoomSignal;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 다른 노드에서 이 노드가 담당하는 방의 연결 / 끊김 알림을 받았을 때 발생하는 이벤트
+ */
+@Getter
+public class RoomSignalReceivedEvent extends ApplicationEvent {
+    private final RoomSignal signal;
+
+    public RoomSignalReceivedEvent(Object source, RoomSignal signal) {
+        super(source);
+        this.signal = signal;
+    }
+
+}
@@ -0,0 +1,395 @@
+package com.coders.boardgame.domain.game.journal;
+
+import com.coders.boardgame.domain.game.cluster.RoomSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 방 변경 기록(write-ahead log) + 주기적 스냅샷 (재시작 시 진행 중인 방 복원)
+ * 방 명령이 끝날 때마다 바뀐 방 스냅샷을 메모리 매핑된 segment 파일 끝에 붙여 씀 (방 삭제는 삭제 기록)
+ * 주기적으로 새 segment로 넘기고, 이전 스냅샷 + 닫힌 segment를 방별 마지막 기록만 남긴 새 스냅샷 파일로 합침
+ *
+ * 파일: rooms-{seq}.wal (segment), rooms-{seq}.snap (seq 이전 segment를 모두 합친 스냅샷)
+ * 기록: [길이 int][CRC32 int][종류 byte][방 id UTF][스냅샷] - 길이를 마지막에 써서 쓰다 만 기록은 끝으로 취급
+ * 매핑된 파일은 JVM이 죽어도 OS 페이지 캐시에 남고, segment를 넘기거나 합칠 때 디스크에 force
+ */
+@Slf4j
+@Component
+public class RoomJournal {
+
+    private static final int SNAPSHOT_MAGIC = 0x524A534E; // "RJSN"
+    private static final byte UPSERT = 1;
+    private static final byte DELETE = 2;
+    private static final int HEADER_SIZE = 8; // 길이 + CRC32
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private final boolean enabled;
+    private final Path dir;
+    private final int segmentSize;
+
+    private final Object compactLock = new Object(); // 합치기 직렬화
+    private FileChannel channel;     // 현재 segment (기록은 this 락에서)
+    private MappedByteBuffer segment;
+    private long segmentSeq;
+
+    public RoomJournal(@Value("${game.journal.enabled:false}") boolean enabled,
+                       @Value("${game.journal.dir:}") String dir,
+                       @Value("${game.journal.segment-size-bytes:16777216}") int segmentSize) {
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.segmentSize = segmentSize;
+
+        // 실행 위치에 따라 기록 파일이 흩어지지 않도록 켤 때는 절대 경로만 허용
+        if (enabled && !this.dir.isAbsolute()) {
+            throw new IllegalStateException("game.journal.dir 은 절대 경로여야 합니다: '" + dir + "'");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기록하지 않는 journal (벤치마크 등)
+     */
+    public static RoomJournal disabled() {
+        return new RoomJournal(false, "", 0);
+    }
+
+    /**
+     * 스냅샷과 segment를 읽어 마지막 상태의 방 목록을 만들고, 하나의 스냅샷으로 합친 뒤 새 segment를 염
+     * 시작할 때 한번 호출, 그 전에는 기록하지 않음
+     * @return 복원할 방 스냅샷 목록
+     */
+    public List<RoomSnapshot> recover() {
+        if (!enabled) {
+            return List.of();
+        }
+
+        synchronized (compactLock) {
+            try {
+                Files.createDirectories(dir);
+                long start = System.currentTimeMillis();
+
+                Map<String, byte[]> rooms = new LinkedHashMap<>();
+                long lastSeq = merge(Long.MAX_VALUE, rooms);
+                long seq = lastSeq + 1;
+                writeSnapshot(seq, rooms);
+                deleteBefore(seq);
+                synchronized (this) {
+                    openSegment(seq);
+                }
+
+                List<RoomSnapshot> snapshots = new ArrayList<>(rooms.size());
+                for (Map.Entry<String, byte[]> room : rooms.entrySet()) {
+                    try {
+                        snapshots.add(RoomSnapshotCodec.read(new DataInputStream(new ByteArrayInputStream(room.getValue()))));
+                    } catch (IOException | IllegalArgumentException e) {
+                        log.warn("방 기록을 읽을 수 없어 건너뜀: roomId={}, error={}", room.getKey(), e.getMessage());
+                    }
+                }
+                log.info("방 journal 읽기 완료: rooms={}, elapsed={}ms", snapshots.size(), System.currentTimeMillis() - start);
+                return snapshots;
+            } catch (IOException e) {
+                throw new UncheckedIOException("방 journal을 읽을 수 없습니다: " + dir, e);
+            }
+        }
+    }
+
+    /**
+     * 바뀐 방 기록 (방 actor에서 호출)
+     * @param snapshot 방 스냅샷
+     */
+    public void append(RoomSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(UPSERT);
+            out.writeUTF(snapshot.roomId());
+            RoomSnapshotCodec.write(snapshot, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이라 발생하지 않음
+        }
+        write(bytes.toByteArray());
+    }
+
+    /**
+     * 방 삭제 기록 (삭제 / 다른 노드로 넘김)
+     * @param roomId 방 id
+     */
+    public void delete(String roomId) {
+        if (!enabled) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(DELETE);
+            out.writeUTF(roomId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(bytes.toByteArray());
+    }
+
+    /**
+     * 새 segment로 넘기고 닫힌 segment를 스냅샷으로 합침
+     * 기록은 새 segment에 계속되므로 합치는 동안 방 명령을 막지 않음
+     */
+    @Scheduled(fixedDelayString = "${game.journal.compact-interval-ms:60000}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (compactLock) {
+            long closedSeq;
+            synchronized (this) {
+                if (segment == null || segment.position() == 0) {
+                    return; // 시작 전이거나 마지막으로 합친 뒤 기록 없음
+                }
+                closedSeq = segmentSeq;
+                try {
+                    openSegment(segmentSeq + 1);
+                } catch (IOException e) {
+                    log.warn("방 journal segment 생성 실패: error={}", e.getMessage());
+                    return;
+                }
+            }
+
+            try {
+                long start = System.currentTimeMillis();
+                Map<String, byte[]> rooms = new LinkedHashMap<>();
+                merge(closedSeq, rooms);
+                writeSnapshot(closedSeq + 1, rooms);
+                deleteBefore(closedSeq + 1);
+                log.debug("방 journal 합치기 완료: seq={}, rooms={}, elapsed={}ms",
+                        closedSeq + 1, rooms.size(), System.currentTimeMillis() - start);
+            } catch (IOException e) {
+                // 이전 스냅샷과 segment가 남아 있으므로 다음 주기에 다시 합침
+                log.warn("방 journal 합치기 실패: seq={}, error={}", closedSeq, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            segment.force();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("방 journal 닫기 실패: error={}", e.getMessage());
+        }
+        channel = null;
+        segment = null;
+    }
+
+    /**
+     * 현재 segment 끝에 기록, 자리가 없으면 새 segment로 넘김
+     */
+    private synchronized void write(byte[] body) {
+        if (segment == null) {
+            return; // recover 전
+        }
+        if (HEADER_SIZE + body.length > segmentSize) {
+            log.error("방 기록이 segment보다 커서 기록하지 못함: size={}", body.length);
+            return;
+        }
+        try {
+            if (segment.remaining() < HEADER_SIZE + body.length) {
+                openSegment(segmentSeq + 1);
+            }
+        } catch (IOException e) {
+            log.warn("방 journal segment 생성 실패: error={}", e.getMessage());
+            return;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        int position = segment.position();
+        segment.position(position + HEADER_SIZE);
+        segment.put(body);
+        segment.putInt(position + 4, (int) crc.getValue());
+        segment.putInt(position, body.length); // 마지막에 써서 완성된 기록만 읽히도록 함
+    }
+
+    /**
+     * 현재 segment를 디스크에 내리고 닫은 뒤 새 segment를 매핑 (this 락에서 호출)
+     */
+    private void openSegment(long seq) throws IOException {
+        FileChannel next = FileChannel.open(file(seq, SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped = next.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        if (channel != null) {
+            segment.force();
+            channel.close();
+        }
+        channel = next;
+        segment = mapped;
+        segmentSeq = seq;
+    }
+
+    /**
+     * 마지막 스냅샷과 그 뒤 segment(maxSeq 까지)를 순서대로 읽어 방별 마지막 기록을 모음
+     * @return 읽은 마지막 seq (파일이 없으면 0)
+     */
+    private long merge(long maxSeq, Map<String, byte[]> rooms) throws IOException {
+        TreeMap<Long, Path> snapshots = list(SNAPSHOT_SUFFIX);
+        TreeMap<Long, Path> segments = list(SEGMENT_SUFFIX);
+
+        long lastSeq = 0;
+        Map.Entry<Long, Path> snapshot = snapshots.floorEntry(maxSeq);
+        if (snapshot != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshot.getValue()));
+            if (buffer.remaining() < 4 || buffer.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("방 journal 스냅샷 형식이 아닙니다: " + snapshot.getValue());
+            }
+            readRecords(buffer, rooms);
+            lastSeq = snapshot.getKey();
+        }
+
+        for (Map.Entry<Long, Path> entry : segments.subMap(lastSeq, true, maxSeq, true).entrySet()) {
+            try (FileChannel file = FileChannel.open(entry.getValue(), StandardOpenOption.READ)) {
+                readRecords(file.map(FileChannel.MapMode.READ_ONLY, 0, file.size()), rooms);
+            }
+            lastSeq = entry.getKey();
+        }
+        return lastSeq;
+    }
+
+    /**
+     * 기록을 끝(길이 0)이나 깨진 기록까지 읽어 적용
+     */
+    private void readRecords(ByteBuffer buffer, Map<String, byte[]> rooms) throws IOException {
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= HEADER_SIZE) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                return;
+            }
+            byte[] body = new byte[length];
+            buffer.get(body);
+
+            crc.reset();
+            crc.update(body);
+            if ((int) crc.getValue() != checksum) {
+                log.warn("방 journal 기록이 깨져 이후 기록을 읽지 않음: position={}", buffer.position() - length);
+                return;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            byte type = in.readByte();
+            String roomId = in.readUTF();
+            if (type == DELETE) {
+                rooms.remove(roomId);
+            } else {
+                rooms.remove(roomId); // 마지막에 바뀐 순서 유지
+                rooms.put(roomId, Arrays.copyOfRange(body, body.length - in.available(), body.length));
+            }
+        }
+    }
+
+    /**
+     * 방별 스냅샷을 임시 파일에 쓰고 디스크에 내린 뒤 이름을 바꿔 교체 (쓰다 죽어도 이전 파일이 남음)
+     */
+    private void writeSnapshot(long seq, Map<String, byte[]> rooms) throws IOException {
+        Path target = file(seq, SNAPSHOT_SUFFIX);
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+            DataOutputStream record = new DataOutputStream(bytes);
+            for (Map.Entry<String, byte[]> room : rooms.entrySet()) {
+                bytes.reset();
+                record.writeByte(UPSERT);
+                record.writeUTF(room.getKey());
+                record.write(room.getValue());
+                record.flush();
+
+                byte[] body = bytes.toByteArray();
+                crc.reset();
+                crc.update(body);
+                out.writeInt(body.length);
+                out.writeInt((int) crc.getValue());
+                out.write(body);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * seq 이전 스냅샷 / segment 삭제 (새 스냅샷에 합쳐진 파일)
+     */
+    private void deleteBefore(long seq) throws IOException {
+        for (Path path : list(SNAPSHOT_SUFFIX).headMap(seq, false).values()) {
+            Files.deleteIfExists(path);
+        }
+        for (Path path : list(SEGMENT_SUFFIX).headMap(seq, false).values()) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private TreeMap<Long, Path> list(String suffix) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.list(dir)) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith("rooms-") && name.endsWith(suffix)) {
+                    try {
+                        files.put(Long.parseLong(name.substring("rooms-".length(), name.length() - suffix.length())), path);
+                    } catch (NumberFormatException e) {
+                        // 다른 파일
+                    }
+                }
+            });
+        }
+        return files;
+    }
+
+    private Path file(long seq, String suffix) {
+        return dir.resolve(String.format("rooms-%016d%s", seq, suffix));
+    }
+}
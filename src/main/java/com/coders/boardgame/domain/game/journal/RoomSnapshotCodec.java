@@ -0,0 +1,158 @@
+package com.coders.boardgame.domain.game.journal;
+
+import com.coders.boardgame.domain.game.cluster.RoomSnapshot;
+import com.coders.boardgame.domain.game.cluster.RoomSnapshot.PlayerSnapshot;
+import com.coders.boardgame.domain.game.enums.GamePhase;
+import com.coders.boardgame.domain.game.enums.RoomStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방 스냅샷 바이너리 인코딩 (방 journal 기록용)
+ * Java 직렬화보다 작고 클래스 구조에 묶이지 않도록 필드를 순서대로 직접 씀
+ * 필드를 추가하면 VERSION을 올리고 이전 버전도 읽을 수 있게 유지
+ */
+final class RoomSnapshotCodec {
+
+    static final int VERSION = 1;
+
+    private RoomSnapshotCodec() {
+    }
+
+    static void write(RoomSnapshot room, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeUTF(room.roomId());
+        writeNullableUTF(out, room.roomName());
+        out.writeInt(room.totalPlayers());
+        writeNullableLong(out, room.hostId());
+
+        out.writeInt(room.players().size());
+        for (PlayerSnapshot player : room.players()) {
+            out.writeLong(player.playerId());
+            out.writeInt(player.avatarId());
+            writeNullableUTF(out, player.school());
+            writeNullableUTF(out, player.name());
+            out.writeInt(player.gender());
+            out.writeInt(player.sequenceNumber());
+            out.writeInt(player.collectedPuzzlePieces());
+            out.writeBoolean(player.speaking());
+            out.writeInt(player.usageTime());
+            out.writeInt(player.surveyScore());
+            out.writeBoolean(player.ready());
+            out.writeInt(player.seatIndex());
+        }
+
+        writeLongs(out, room.seats());
+        out.writeInt(room.currentTurn());
+        out.writeInt(room.totalPuzzlePieces());
+        out.writeInt(room.currentPuzzlePieces());
+        out.writeInt(room.currentRound());
+        writeNullableUTF(out, room.roomStatus() == null ? null : room.roomStatus().name());
+        out.writeInt(room.assignedPictureCardId());
+        out.writeInt(room.assignedTextCardId());
+        out.writeBoolean(room.pictureCardAssigned());
+        out.writeBoolean(room.textCardAssigned());
+        out.writeBoolean(room.hasReVoted());
+        writeNullableUTF(out, room.currentPhase() == null ? null : room.currentPhase().name());
+        writeLongs(out, room.turnOrder());
+        writeNullableLong(out, room.currentSpeakerId());
+
+        byte[] votes = room.votes();
+        out.writeInt(votes == null ? -1 : votes.length);
+        if (votes != null) {
+            out.write(votes);
+        }
+        out.writeLong(room.stateVersion());
+    }
+
+    static RoomSnapshot read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 방 스냅샷 버전: " + version);
+        }
+
+        String roomId = in.readUTF();
+        String roomName = readNullableUTF(in);
+        int totalPlayers = in.readInt();
+        Long hostId = readNullableLong(in);
+
+        int playerCount = in.readInt();
+        List<PlayerSnapshot> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new PlayerSnapshot(in.readLong(), in.readInt(), readNullableUTF(in), readNullableUTF(in),
+                    in.readInt(), in.readInt(), in.readInt(), in.readBoolean(), in.readInt(), in.readInt(),
+                    in.readBoolean(), in.readInt()));
+        }
+
+        long[] seats = readLongs(in);
+        int currentTurn = in.readInt();
+        int totalPuzzlePieces = in.readInt();
+        int currentPuzzlePieces = in.readInt();
+        int currentRound = in.readInt();
+        String roomStatus = readNullableUTF(in);
+        int assignedPictureCardId = in.readInt();
+        int assignedTextCardId = in.readInt();
+        boolean pictureCardAssigned = in.readBoolean();
+        boolean textCardAssigned = in.readBoolean();
+        boolean hasReVoted = in.readBoolean();
+        String currentPhase = readNullableUTF(in);
+        long[] turnOrder = readLongs(in);
+        Long currentSpeakerId = readNullableLong(in);
+
+        int votesLength = in.readInt();
+        byte[] votes = null;
+        if (votesLength >= 0) {
+            votes = new byte[votesLength];
+            in.readFully(votes);
+        }
+        long stateVersion = in.readLong();
+
+        return new RoomSnapshot(roomId, roomName, totalPlayers, hostId, players, seats, currentTurn,
+                totalPuzzlePieces, currentPuzzlePieces, currentRound,
+                roomStatus == null ? null : RoomStatus.valueOf(roomStatus),
+                assignedPictureCardId, assignedTextCardId, pictureCardAssigned, textCardAssigned, hasReVoted,
+                currentPhase == null ? null : GamePhase.valueOf(currentPhase),
+                turnOrder, currentSpeakerId, votes, stateVersion);
+    }
+
+    private static void writeNullableUTF(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeLongs(DataOutput out, long[] values) throws IOException {
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static long[] readLongs(DataInput in) throws IOException {
+        long[] values = new long[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+}
@@ -1,13 +1,36 @@
     package com.coders.boardgame.domain.game.service;
 
+    import com.coders.boardgame.domain.game.actor.RoomActorHooks;
+    import com.coders.boardgame.domain.game.actor.RoomActorRegistry;
+    import com.coders.boardgame.domain.game.cluster.RoomOwnership;
+    import com.coders.boardgame.domain.game.cluster.RoomSnapshot;
+    import com.coders.boardgame.domain.game.cluster.RoomStore;
+    import com.coders.boardgame.domain.game.component.GameMetrics;
+    import com.coders.boardgame.domain.game.component.GameRoomRegistry;
+    import com.coders.boardgame.domain.game.component.NodeDrainer;
+    import com.coders.boardgame.domain.game.component.PlayerExpiryWheel;
+    import com.coders.boardgame.domain.game.component.PlayerInfoInterner;
+    import com.coders.boardgame.domain.game.component.RoomIdAllocator;
+    import com.coders.boardgame.domain.game.component.RoomSaveExecutor;
+    import com.coders.boardgame.domain.game.component.RoomViewCache;
+    import com.coders.boardgame.domain.game.component.SseAdmissionControl;
     import com.coders.boardgame.domain.game.dto.*;
     import com.coders.boardgame.domain.game.enums.RoomStatus;
+    import com.coders.boardgame.domain.game.enums.StateDeltaType;
     import com.coders.boardgame.domain.game.event.GameEndedEvent;
+    import com.coders.boardgame.domain.game.journal.RoomJournal;
+    import com.coders.boardgame.domain.game.sse.RoomSignal;
+    import com.coders.boardgame.domain.user.dto.UserDto;
     import com.coders.boardgame.exception.GameRoomException;
+    import com.coders.boardgame.exception.NodeDrainingException;
+    import com.coders.boardgame.exception.RoomCapacityExceededException;
+    import jakarta.annotation.PostConstruct;
     import lombok.RequiredArgsConstructor;
     import lombok.extern.slf4j.Slf4j;
+    import org.springframework.beans.factory.annotation.Value;
     import org.springframework.context.ApplicationEventPublisher;
     import org.springframework.http.HttpStatus;
+    import org.springframework.scheduling.annotation.Scheduled;
     import org.springframework.stereotype.Service;
     import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -15,7 +38,7 @@
     import java.util.*;
     import java.util.concurrent.ConcurrentHashMap;
     import java.util.concurrent.ThreadLocalRandom;
-    import java.util.concurrent.atomic.AtomicInteger;
+    import java.util.function.Predicate;
 
     /**
      * 게임 방 관련 service
@@ -25,31 +48,134 @@
     @RequiredArgsConstructor
     public class GameRoomService {
 
-        // 방 관리 : 방 ID -> 방정보
-        private final Map<String, GameRoomDto> gameRooms = new ConcurrentHashMap<>();
+        private static final String NOT_IN_ROOM_MESSAGE = "방에서 나가졌습니다. 다시 입장하셔야 합니다.";
+        private static final String THROTTLED_MESSAGE = "연결 요청이 많아 잠시 후 다시 연결합니다.";
+
+        // 방 관리 : 방 ID -> 방정보 (최대 방 수 제한)
+        private final GameRoomRegistry gameRooms;
 
         // 게임 SSE 서비스
         private final GameSseService gameSseService;
 
         private final ApplicationEventPublisher applicationEventPublisher;
 
+        // 유령 유저 감지용 ping 만료 wheel
+        private final PlayerExpiryWheel playerExpiryWheel;
+
+        // 방별 명령 직렬 실행
+        private final RoomActorRegistry roomActorRegistry;
+
+        // 방 코드 발급기
+        private final RoomIdAllocator roomIdAllocator;
+
+        // 방 생성 거절 / 정리 지표
+        private final GameMetrics gameMetrics;
+
+        // 플레이어 정보 학교 이름 공유
+        private final PlayerInfoInterner playerInfoInterner;
+
+        // 방 스냅샷 저장소 (노드 이동 / 재시작 시 방 복원)
+        private final RoomStore roomStore;
+
+        // 방 담당 노드 판단
+        private final RoomOwnership roomOwnership;
+
+        // 방 변경 기록 (재시작 시 방 복원)
+        private final RoomJournal roomJournal;
+
+        // journal / 방 저장소 쓰기 (방 actor 밖에서 순서대로 실행)
+        private final RoomSaveExecutor roomSaveExecutor;
+
+        // SSE 연결 요청 수 제한
+        private final SseAdmissionControl sseAdmissionControl;
+
+        // 방 조회 응답 JSON 캐시 (방이 바뀔 때마다 새 버전)
+        private final RoomViewCache roomViewCache;
+
+        // 저장소에서 방을 가져오는 작업 직렬화 (같은 방을 두번 가져오지 않도록)
+        private final Object adoptLock = new Object();
+
+        // 방 저장소에 아직 저장하지 않은 변경이 있는 방 (여러 노드일 때 주기적으로 저장)
+        private final Set<String> unstoredRooms = ConcurrentHashMap.newKeySet();
+
+        // 방 id -> 플레이어 id -> 마지막으로 SSE 연결을 받은 노드 (이전 노드의 늦은 끊김 알림을 무시하기 위함)
+        private final Map<String, Map<Long, String>> connectionNodes = new ConcurrentHashMap<>();
+
+        // 종료 준비(drain) 중이면 새 방 생성 / 입장 / SSE 연결을 받지 않음 (SSE는 200 + retry: 로 다른 노드에 재연결)
+        private volatile boolean draining;
+
+        // 방 id -> 플레이어 id -> 마지막으로 player-reconnected 를 보낸 시각
+        private final Map<String, Map<Long, Long>> reconnectNotices = new ConcurrentHashMap<>();
+
+        @Value("${game.sse.reconnect.merge-window-ms:2000}")
+        private long reconnectMergeWindowMs; // 이 시간 안에 같은 플레이어가 다시 재연결하면 알림을 한번만 보냄
+
+        @Value("${game.state-delta.push:false}")
+        private boolean pushStateDeltas; // 기존 이벤트와 별도로 state-delta 이벤트도 방 전체에 보낼지 (기본은 기록만)
+
         /**
-         * UUID 기반 8자리 Room ID 생성
-         * @return roomId
+         * 방 actor에 방 저장소 연동 hook 등록 후 재시작 전 방 복원
+         * actor가 없는 방은 저장소에서 가져오고, 명령이 끝날 때마다 바뀐 방을 저장
          */
-        public String generateRoomId() {
-            int attempts = 0;
-            int maxAttempts = 100;
+        @PostConstruct
+        public void initialize() {
+            registerActorHooks();
+            recoverRooms();
+        }
 
-            String roomId;
-            do {
-                if (attempts++ >= maxAttempts) {
-                    throw new IllegalStateException("Room ID 생성에 실패했습니다.");
+        private void registerActorHooks() {
+            roomActorRegistry.setHooks(new RoomActorHooks() {
+                @Override
+                public boolean loadRoom(String roomId) {
+                    return adoptRoom(roomId);
                 }
-                roomId = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-            } while (gameRooms.containsKey(roomId));
 
-            return roomId;
+                @Override
+                public void afterCommand(String roomId) {
+                    saveRoom(roomId);
+                }
+            });
+        }
+
+        /**
+         * 재시작 전 journal에 남은 방 복원 (요청을 받기 전에 실행)
+         * 재연결한 플레이어는 복원한 상태로 connected / game-connected 를 받음
+         * 이 노드가 담당하지 않는 방은 방 저장소에 넘겨 담당 노드가 가져가게 함
+         */
+        private void recoverRooms() {
+            List<RoomSnapshot> snapshots = roomJournal.recover();
+            int restored = 0;
+            for (RoomSnapshot snapshot : snapshots) {
+                String roomId = snapshot.roomId();
+                roomIdAllocator.advancePast(roomId);
+
+                if (!roomOwnership.isLocal(roomId)) {
+                    if (roomStore.find(roomId) == null) {
+                        roomStore.save(snapshot);
+                    }
+                    roomJournal.delete(roomId);
+                    continue;
+                }
+                try {
+                    registerRestoredRoom(snapshot);
+                    unstoredRooms.add(roomId);
+                    restored++;
+                } catch (RoomCapacityExceededException e) {
+                    log.warn("최대 방 수에 도달해 나머지 방은 복원하지 않음: restored={}, total={}", restored, snapshots.size());
+                    break;
+                }
+            }
+            if (!snapshots.isEmpty()) {
+                log.info("재시작 전 방 복원 완료: restored={}, total={}", restored, snapshots.size());
+            }
+        }
+
+        /**
+         * 8자리 Room ID 생성 (노드 번호 + 섞인 순번, 충돌 확인 없이 유일)
+         * @return roomId
+         */
+        public String generateRoomId() {
+            return roomIdAllocator.next();
         }
 
         /**
@@ -58,53 +184,72 @@
          * @return CreateRoomResponseDto 객체 반환
          */
         public CreateRoomResponseDto createRoom(CreateRoomRequestDto requestDto, Long userId) {
-            String roomId = generateRoomId();
+            rejectIfDraining();
 
-            // 방장 생성
-            PlayerDto host = PlayerDto.builder()
-                    .playerId(userId)
-                    .avatarId(ThreadLocalRandom.current().nextInt(1, requestDto.getAvatarMaxId() + 1))
-                    .playerInfo(requestDto.getHostInfo())
-                    .surveyScore(requestDto.getSurveyScore())
-                    .usageTime(0)
-                    .sequenceNumber(0)
-                    .collectedPuzzlePieces(0)
-                    .lastPingTime(System.currentTimeMillis())
-                    .isSpeaking(false)
-                    .isReady(false)
-                    .seatIndex(0)
-                    .build();
+            // 방 자리 예약, 자리가 없으면 방치된 방을 정리하거나 바로 거절
+            if (!gameRooms.tryReserve() && !reserveByEvictingAbandonedRoom()) {
+                gameMetrics.roomRejected();
+                throw new RoomCapacityExceededException("현재 생성할 수 있는 방이 없습니다. 잠시 후 다시 시도해주세요.",
+                        gameRooms.getRetryAfterSeconds());
+            }
 
+            try {
+                return createReservedRoom(requestDto, userId);
+            } catch (RuntimeException e) {
+                gameRooms.release();
+                throw e;
+            }
+        }
+
+        /**
+         * 예약된 자리에 방 생성
+         */
+        private CreateRoomResponseDto createReservedRoom(CreateRoomRequestDto requestDto, Long userId) {
+            String roomId = generateRoomId();
 
-            // seats 배열 생성
-            Long[] seatArray = new Long[requestDto.getTotalPlayers()];
-            seatArray[0] = userId; // 0번 자리에 방장 배정
+            // 방 인원만큼 자리 생성 후 0번 자리에 방장 배정
+            long now = System.currentTimeMillis();
+            PlayerSeats players = new PlayerSeats(requestDto.getTotalPlayers());
+            seatPlayer(players, 0, userId, requestDto.getAvatarMaxId(), requestDto.getHostInfo(),
+                    requestDto.getSurveyScore(), now);
 
             // 방 정보 생성
             GameRoomDto gameRoom = GameRoomDto.builder()
                     .roomId(roomId)
                     .roomName(requestDto.getRoomName())
                     .totalPlayers(requestDto.getTotalPlayers())
-                    .currentPlayers(new AtomicInteger(1))
-                    .hostId(host.getPlayerId())
-                    .players(new ConcurrentHashMap<>(Map.of(host.getPlayerId(), host)))
+                    .currentPlayers(1)
+                    .hostId(userId)
+                    .players(players)
                     .currentTurn(0)
                     .totalPuzzlePieces(requestDto.getTotalPlayers() == 3 ? 5 : 13)
                     .currentPuzzlePieces(0)
                     .assignedPictureCardId(0)
                     .assignedTextCardId(0)
                     .roomStatus(RoomStatus.WAITING)
-                    .seats(seatArray)
                     .build();
 
             // 생성된 방 저장
-            gameRooms.put(roomId, gameRoom);
+            roomActorRegistry.register(roomId);
+            gameRooms.put(gameRoom);
+            playerExpiryWheel.schedule(roomId, userId, now);
+
+            // 방 코드의 담당 노드가 다른 노드면 저장소에 넘기고, 이후 요청은 담당 노드가 가져가서 처리
+            if (roomOwnership.isLocal(roomId)) {
+                if (roomJournal.isEnabled()) {
+                    RoomSnapshot snapshot = RoomSnapshot.of(gameRoom);
+                    roomSaveExecutor.execute(() -> roomJournal.append(snapshot));
+                }
+                unstoredRooms.add(roomId);
+            } else {
+                handOffRoom(roomId);
+            }
 
             return CreateRoomResponseDto.builder()
                     .roomId(roomId)
                     .roomName(requestDto.getRoomName())
                     .totalPlayers(requestDto.getTotalPlayers())
-                    .host(host)
+                    .host(gameRoom.toPlayerDto(0))
                     .build();
         }
 
@@ -115,142 +260,378 @@
          */
         public GameRoomDto getRoom(String roomId){
             GameRoomDto room = gameRooms.get(roomId);
+            if (room == null && adoptRoom(roomId)) {
+                room = gameRooms.get(roomId);
+            }
             if(room == null){
                 throw new GameRoomException("방이 존재하지 않습니다: " + roomId, HttpStatus.NOT_FOUND);
             }
             return room;
         }
 
+        /**
+         * 대기실 응답, 방이 바뀌기 전까지 직렬화한 JSON을 그대로 사용
+         * 캐시가 없을 때만 방 actor에서 WaitingRoomDto를 만듦 (변경 도중의 상태가 캐시되지 않도록)
+         * @param roomId 방 id
+         * @return 방 버전 ETag와 WaitingRoomDto JSON
+         */
+        public RoomViewCache.CachedView getWaitingRoomView(String roomId) {
+            GameRoomDto room = getRoom(roomId);
+            return roomViewCache.waitingRoom(roomId, () -> roomActorRegistry.call(roomId, () -> buildWaitingRoomDto(room)));
+        }
+
+        /**
+         * 게임 상태 응답, 캐시가 없을 때만 방 actor에서 GameStateDto를 만듦
+         * @param room 방 정보
+         * @return 방 버전 ETag와 GameStateDto JSON
+         */
+        public RoomViewCache.CachedView getGameStateView(GameRoomDto room) {
+            String roomId = room.getRoomId();
+            return roomViewCache.gameState(roomId, () -> roomActorRegistry.call(roomId, () -> buildGameStateDto(room)));
+        }
+
+        /**
+         * 방 조회 함수 (없으면 null)
+         * @param roomId 방 id
+         * @return room 정보, 없으면 null
+         */
+        public GameRoomDto findRoom(String roomId) {
+            return gameRooms.peek(roomId);
+        }
+
         public List<GameRoomDto> getAllRooms() {
             return new ArrayList<>(gameRooms.values());
         }
 
+        /**
+         * 상태별 방 수 (metrics)
+         * @param status 방 상태
+         */
+        public int countRooms(RoomStatus status) {
+            int count = 0;
+            for (GameRoomDto room : gameRooms.values()) {
+                if (room.getRoomStatus() == status) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 상태별 방에 참여중인 플레이어 수 (metrics)
+         * @param status 방 상태
+         */
+        public int countPlayers(RoomStatus status) {
+            int count = 0;
+            for (GameRoomDto room : gameRooms.values()) {
+                if (room.getRoomStatus() == status) {
+                    count += room.getCurrentPlayers();
+                }
+            }
+            return count;
+        }
+
         /**
          * 생성된 방 sse 연결
          * @param roomId 방 id
+         * @param playerId 플레이어 id
+         * @param lastEventId Last-Event-ID 헤더 값 (없으면 null)
+         * @param sinceVersion 클라이언트가 마지막으로 받은 방 상태 버전 (없으면 null)
          * @return SseEmitter 객체
          */
-        public SseEmitter connectToRoom(String roomId, Long playerId) {
+        public SseEmitter connectToRoom(String roomId, Long playerId, String lastEventId, Long sinceVersion) {
+            if (draining) {
+                return drainingEmitter(roomId, playerId);
+            }
+            long throttledMs = sseAdmissionControl.admitNode();
+            if (throttledMs > 0) {
+                return throttledEmitter(roomId, playerId, throttledMs);
+            }
+
+            // 다른 노드가 담당하는 방이면 연결은 이 노드에 두고 담당 노드에 알림
+            if (!roomOwnership.isLocal(roomId)) {
+                if (!isRemoteRoomPlayer(roomId, playerId)) {
+                    return notInRoomEmitter(roomId, playerId);
+                }
+                throttledMs = sseAdmissionControl.admitRoom(roomId);
+                if (throttledMs > 0) {
+                    return throttledEmitter(roomId, playerId, throttledMs);
+                }
+                ConnectionResult connectionResult = gameSseService.connectToRoom(roomId, playerId, lastEventId);
+                gameSseService.notifyConnected(roomId, playerId,
+                        connectionResult.isReconnecting(), connectionResult.isResumed(), sinceVersion);
+                log.info("{} 방과 연결(담당 노드: {})", playerId, roomOwnership.ownerOf(roomId));
+                return connectionResult.emitter();
+            }
+
             GameRoomDto room = getRoom(roomId);
 
-            boolean isInRoom = room.getPlayers().containsKey(playerId);
+            if (!room.getPlayers().contains(playerId)) {
+                return notInRoomEmitter(roomId, playerId);
+            }
+            throttledMs = sseAdmissionControl.admitRoom(roomId);
+            if (throttledMs > 0) {
+                return throttledEmitter(roomId, playerId, throttledMs);
+            }
+
+            // 게임 SSE 서비스에서 연결 시도 및 재연결 여부 확인
+            ConnectionResult connectionResult = gameSseService.connectToRoom(roomId, playerId, lastEventId);
+            log.info("{} 방과 연결", playerId);
 
-            PlayerDto player;
-            SseEmitter emitter;
-            boolean isReconnecting;
-            if (!isInRoom) {
-                log.warn("{}가 해당 방에 없습니다.", playerId);
-                // 방에 없는 사용자
-                emitter = new SseEmitter(60000L);
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("not-in-room")
-                            .data("방에서 나가졌습니다. 다시 입장하셔야 합니다.")
-                    );
-                } catch (IOException e) {
-                    log.error("not-in-room 이벤트 전송 실패: roomId={}, playerId={}, error={}",
-                            roomId, playerId, e.getMessage());
-                    emitter.completeWithError(e);
-                }
-                emitter.complete();
-                return emitter;
-            } else {
-                player = room.getPlayers().get(playerId);
-                // 게임 SSE 서비스에서 연결 시도 및 재연결 여부 확인
-                ConnectionResult connectionResult = gameSseService.connectToRoom(roomId, playerId);
-                emitter = connectionResult.emitter();
-                isReconnecting = connectionResult.isReconnecting();
-                log.info("{} 방과 연결", playerId);
+            recordConnectionNode(roomId, playerId, roomOwnership.getLocalMember());
+            // 위에서 확인한 뒤 그 사이 방을 나갔을 수 있으므로 actor 안에서 다시 조회
+            roomActorRegistry.run(roomId, () -> {
+                int seat = room.getPlayers().seatOf(playerId);
+                if (seat == PlayerSeats.NO_SEAT) {
+                    return;
+                }
+                handlePlayerConnected(room, seat,
+                        connectionResult.isReconnecting(), connectionResult.isResumed(), sinceVersion);
+            });
+            return connectionResult.emitter();
+        }
+
+        /**
+         * 방에 없는 사용자에게 not-in-room 이벤트만 보내고 닫는 emitter
+         */
+        private SseEmitter notInRoomEmitter(String roomId, Long playerId) {
+            log.warn("{}가 해당 방에 없습니다.", playerId);
+            SseEmitter emitter = new SseEmitter(60000L);
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("not-in-room")
+                        .data(NOT_IN_ROOM_MESSAGE)
+                );
+            } catch (IOException e) {
+                log.error("not-in-room 이벤트 전송 실패: roomId={}, playerId={}, error={}",
+                        roomId, playerId, e.getMessage());
+                emitter.completeWithError(e);
+            }
+            emitter.complete();
+            return emitter;
+        }
+
+        /**
+         * 연결 요청 제한에 걸린 요청에 retry: 와 reconnect-throttled 이벤트만 보내고 닫는 emitter
+         * 클라이언트(EventSource)는 retry: 만큼 기다렸다가 자동으로 다시 연결
+         */
+        private SseEmitter throttledEmitter(String roomId, Long playerId, long throttledMs) {
+            log.debug("SSE 연결 요청 제한: roomId={}, playerId={}, waitMs={}", roomId, playerId, throttledMs);
+            return retryLaterEmitter(roomId, playerId, "reconnect-throttled", THROTTLED_MESSAGE,
+                    gameSseService.jitteredRetryMs(throttledMs));
+        }
+
+        /**
+         * 종료 준비 중인 노드로 온 SSE 연결 요청에 retry: 와 server-draining 이벤트만 보내고 닫는 emitter
+         * 503 같은 200이 아닌 응답을 받으면 EventSource가 재연결을 멈추므로 200으로 응답해 다른 노드로 다시 연결하게 함
+         */
+        private SseEmitter drainingEmitter(String roomId, Long playerId) {
+            log.debug("종료 준비 중 SSE 연결 요청: roomId={}, playerId={}", roomId, playerId);
+            long retryMs = gameSseService.jitteredRetryMs(0);
+            return retryLaterEmitter(roomId, playerId, NodeDrainer.DRAINING_EVENT, drainingData(retryMs), retryMs);
+        }
+
+        /**
+         * retry: 와 이벤트 하나만 보내고 닫는 emitter
+         */
+        private SseEmitter retryLaterEmitter(String roomId, Long playerId, String eventName, String data, long retryMs) {
+            SseEmitter emitter = new SseEmitter(60000L);
+            try {
+                emitter.send(SseEmitter.event()
+                        .reconnectTime(retryMs)
+                        .name(eventName)
+                        .data(data)
+                );
+            } catch (IOException e) {
+                log.debug("{} 이벤트 전송 실패: roomId={}, playerId={}, error={}",
+                        eventName, roomId, playerId, e.getMessage());
+                emitter.completeWithError(e);
+            }
+            emitter.complete();
+            return emitter;
+        }
+
+        /**
+         * 다른 노드가 담당하는 방에 플레이어가 있는지 방 저장소의 스냅샷으로 확인
+         */
+        private boolean isRemoteRoomPlayer(String roomId, Long playerId) {
+            RoomSnapshot snapshot = roomStore.find(roomId);
+            if (snapshot == null) {
+                throw new GameRoomException("방이 존재하지 않습니다: " + roomId, HttpStatus.NOT_FOUND);
+            }
+            return snapshot.players().stream().anyMatch(p -> p.playerId().equals(playerId));
+        }
+
+        /**
+         * server-draining 이벤트 데이터 (연결 중 종료 준비 알림과 같은 형식)
+         */
+        private static String drainingData(long reconnectInMs) {
+            return "{\"reconnectInMs\":" + reconnectInMs + "}";
+        }
+
+        /**
+         * 다른 노드에 SSE 연결한 플레이어 처리 (이 노드가 담당하는 방)
+         * 초기 이벤트는 방 topic으로 발행되어 연결을 가진 노드가 전달함
+         * @param signal 연결 알림
+         */
+        public void handleRemotePlayerConnected(RoomSignal signal) {
+            String roomId = signal.roomId();
+            roomActorRegistry.run(roomId, () -> {
+                GameRoomDto room = getRoom(roomId);
+                int seat = room.getPlayers().seatOf(signal.playerId());
+                if (seat == PlayerSeats.NO_SEAT) {
+                    return;
+                }
+                recordConnectionNode(roomId, signal.playerId(), signal.fromNode());
+                handlePlayerConnected(room, seat, signal.reconnecting(), signal.resumed(), signal.sinceVersion());
+            });
+        }
+
+        /**
+         * 비의도적 연결 끊김 처리 (방 나가기)
+         * 플레이어가 그 사이 다른 노드로 다시 연결했으면 이전 노드의 끊김 알림은 무시
+         * @param roomId 방 id
+         * @param playerId 플레이어 id
+         * @param fromNode 연결이 끊긴 노드, 이 노드면 null
+         */
+        public void handlePlayerDisconnected(String roomId, Long playerId, String fromNode) {
+            String node = fromNode != null ? fromNode : roomOwnership.getLocalMember();
+            Map<Long, String> nodes = connectionNodes.get(roomId);
+            if (nodes != null) {
+                String latest = nodes.get(playerId);
+                if (latest != null && !latest.equals(node)) {
+                    log.debug("이전 노드의 연결 끊김 무시: roomId={}, playerId={}, from={}, latest={}",
+                            roomId, playerId, node, latest);
+                    return;
+                }
             }
+            leaveRoom(roomId, playerId, false);
+        }
+
+        /**
+         * 이 노드나 다른 노드에 방의 SSE 연결이 있는지 확인
+         * @param roomId 방 id
+         */
+        public boolean hasConnections(String roomId) {
+            if (gameSseService.hasConnections(roomId)) {
+                return true;
+            }
+            String local = roomOwnership.getLocalMember();
+            Map<Long, String> nodes = connectionNodes.get(roomId);
+            return nodes != null && nodes.values().stream().anyMatch(node -> !node.equals(local));
+        }
+
+        private void recordConnectionNode(String roomId, Long playerId, String node) {
+            connectionNodes.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(playerId, node);
+        }
+
+        /**
+         * 방 상태에 따라 연결된 플레이어에게 초기 이벤트 전송 및 다른 인원에게 알림
+         * @param room 방 정보
+         * @param seat 연결된 플레이어의 자리 번호
+         * @param isReconnecting 재연결 여부
+         * @param isResumed 놓친 이벤트를 재전송했는지 여부 (true면 게임 상태 스냅샷 생략)
+         * @param sinceVersion 클라이언트가 마지막으로 받은 방 상태 버전 (있으면 게임 상태 스냅샷 대신 변경분 전송)
+         */
+        private void handlePlayerConnected(GameRoomDto room, int seat, boolean isReconnecting, boolean isResumed,
+                                           Long sinceVersion) {
+            String roomId = room.getRoomId();
+            Long playerId = room.getPlayers().getPlayerId(seat);
 
             // 방 상태에 따른 처리
             switch (room.getRoomStatus()){
                 case ENDED:
                     // 게임이 종료 된 경우 "game-ended" 이벤트 전송
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name("game-ended")
-                                .data("게임이 이미 종료됨")
-                        );
-                    } catch (IOException e) {
-                        log.error("게임 종료 알림 전송 실패: roomId={}, playerId={}, error={}", roomId, playerId, e.getMessage());
-                        emitter.completeWithError(e);
-                    }
-                    return emitter;
+                    gameSseService.sendConnectionEvent(roomId, playerId, "game-ended", "게임이 이미 종료됨");
+                    return;
 
                 case WAITING:
 
-                    room.getPlayers().computeIfPresent(playerId, (id, p) -> {
-                        p.setReady(true);
-                        return p;
-                    });
-
-                    // 클라이언트에 초기 연결 상태 전송
-                    try{
-                        emitter.send(SseEmitter.event()
-                                .name("connected")
-                                .data("연결완료")
-                        );
-                    } catch (IOException e){
-                        log.error("방 상태 전송 실패: roomId={}, playerId={}, error={}", roomId, playerId, e.getMessage());
-                        emitter.completeWithError(e);
+                    // 이미 준비 상태면(짧은 시간 안의 재연결) 같은 상태 변경을 다시 보내지 않음
+                    if (!room.getPlayers().isReady(seat)) {
+                        room.getPlayers().setReady(seat, true);
+                        recordStateChange(room, StateDeltaType.READY_CHANGED, Map.of("playerId", playerId, "ready", true));
                     }
 
+                    // 클라이언트에 초기 연결 상태 전송 (이후 방 이벤트와 같은 전송 큐를 사용해 순서 보장)
+                    gameSseService.sendConnectionEvent(roomId, playerId, "connected", "연결완료");
+
                     // 방에 연결을 완료했다고 자신을 제외한 모든인원들한테 방상태를 보냄
                     if(isReconnecting){
-                        gameSseService.sendRoomEventToOthers(roomId, "player-reconnected", player, playerId);
+                        notifyReconnected(room, seat);
                     } else {
-                        gameSseService.sendRoomEventToOthers(roomId, "player-joined", player, playerId);
-                        log.debug("현재 플레이어 나열: {}", new ArrayList<>(room.getPlayers().values()));
+                        gameSseService.sendRoomEventToOthers(roomId, "player-joined", room.toPlayerDto(seat), playerId);
+                        log.debug("현재 플레이어 나열: {}", room.getPlayers().playerIds());
                     }
-                    return emitter;
+                    return;
 
                 case IN_GAME:
+                    // 놓친 이벤트를 재전송했으면 전체 상태는 보내지 않음
+                    if (isResumed) {
+                        if (isReconnecting) {
+                            notifyReconnected(room, seat);
+                        }
+                        return;
+                    }
+
                     // 게임 중인 상태일 때 연결 처리
-                    GameStateDto gameState = GameStateDto.builder()
-                            .roomId(roomId)
-                            .roomName(room.getRoomName())
-                            .hostId(room.getHostId())
-                            .totalPlayers(room.getTotalPlayers())
-                            .totalPuzzlePieces(room.getTotalPuzzlePieces())
-                            .currentPuzzlePieces(room.getCurrentPuzzlePieces())
-                            .currentTurn(room.getCurrentTurn())
-                            .currentPhase(room.getCurrentPhase())
-                            .currentRound(room.getCurrentRound())
-                            .players(new ArrayList<>(room.getPlayers().values()))
-                            .build();
-
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name("game-connected")
-                                .data(gameState)
-                        );
-                    } catch (IOException e) {
-                        log.error("게임 상태 전송 실패: roomId={}, playerId={}, error={}", roomId, playerId, e.getMessage());
-                        emitter.completeWithError(e);
+                    // 클라이언트가 가진 상태 버전 이후 변경분이 기록에 남아있으면 변경분만 보냄
+                    if (sinceVersion != null && room.getStateDeltasSince(sinceVersion) != null) {
+                        gameSseService.sendConnectionEvent(roomId, playerId, "game-state-changes",
+                                buildGameStateChanges(room, sinceVersion));
+                    } else {
+                        GameStateDto gameState = buildGameStateDto(room);
+
+                        gameSseService.sendConnectionEvent(roomId, playerId, "game-connected", gameState);
                     }
 
                     if (isReconnecting) {
-                        gameSseService.sendRoomEventToOthers(roomId, "player-reconnected", player, playerId);
+                        notifyReconnected(room, seat);
                     }
-                    return emitter;
+                    return;
 
                 default:
                     // 예상치 못한 상태 에러
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name("error")
-                                .data("알 수 없는 방 상태입니다")
-                        );
-                    } catch (IOException e) {
-                        log.error("알 수 없는 방 상태 알림 전송 실패: roomId={}, playerId={}, error={}", roomId, playerId, e.getMessage());
-                        emitter.completeWithError(e);
-                    }
+                    log.error("알 수 없는 방 상태: roomId={}, playerId={}, status={}", roomId, playerId, room.getRoomStatus());
+                    gameSseService.sendConnectionEvent(roomId, playerId, "error", "알 수 없는 방 상태입니다");
                     gameSseService.disconnectPlayer(roomId, "unknown-state", playerId, true);
                     throw new GameRoomException("알 수 없는 방 상태 알림 전송 실패", HttpStatus.BAD_REQUEST);
             }
         }
 
+        /**
+         * 다른 인원에게 player-reconnected 알림 (방 actor에서 호출)
+         * 연결이 불안정해 짧은 시간 안에 여러 번 재연결하면 처음 한번만 보냄
+         */
+        private void notifyReconnected(GameRoomDto room, int seat) {
+            String roomId = room.getRoomId();
+            Long playerId = room.getPlayers().getPlayerId(seat);
+            long now = System.currentTimeMillis();
+            Map<Long, Long> notices = reconnectNotices.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+            Long last = notices.get(playerId);
+            if (last != null && now - last < reconnectMergeWindowMs) {
+                gameMetrics.reconnectMerged();
+                return;
+            }
+            notices.put(playerId, now);
+            gameSseService.sendRoomEventToOthers(roomId, "player-reconnected", room.toPlayerDto(seat), playerId);
+        }
+
+        /**
+         * 자리에 플레이어 배정 (방 actor에서 호출)
+         * 요청의 UserDto는 들고 있지 않고 값만 복사하며, 학교 이름은 공유된 String 사용
+         */
+        private void seatPlayer(PlayerSeats players, int seat, Long userId, int avatarMaxId, UserDto info,
+                                int surveyScore, long now) {
+            int avatarId = ThreadLocalRandom.current().nextInt(1, avatarMaxId + 1);
+            if (info == null) {
+                players.seat(seat, userId, avatarId, null, null, 0, surveyScore, now);
+                return;
+            }
+            players.seat(seat, userId, avatarId, info.getName(), playerInfoInterner.intern(info.getSchool()),
+                    info.getGender(), surveyScore, now);
+        }
+
         /**
          * 방 참가
          * @param roomId 방 ID
@@ -259,63 +640,47 @@
          * @return playerDto
          */
         public WaitingRoomDto joinRoom(String roomId, Long userId, JoinRoomRequestDto joinRoomRequestDto){
-            GameRoomDto room = getRoom(roomId);
+            rejectIfDraining();
 
-            if (room.getRoomStatus().equals(RoomStatus.IN_GAME) || room.getRoomStatus().equals(RoomStatus.ENDED)){
-                throw new GameRoomException("게임이 시작되거나 종료중입니다. 잠시후 다시 시도해주세요", HttpStatus.FORBIDDEN);
-            }
+            return roomActorRegistry.call(roomId, () -> {
+                GameRoomDto room = getRoom(roomId);
 
-            // 플레이어가 이미 존재하는지 확인
-            if (room.getPlayers().containsKey(userId)) {
-                throw new GameRoomException(userId + " 이미 방에 있습니다.", HttpStatus.FORBIDDEN);
-            }
-
-            // 현재 플레이어 수 확인
-            if (room.getCurrentPlayers().get() >= room.getTotalPlayers()) {
-                throw new GameRoomException("방이 가득찼습니다: " + roomId, HttpStatus.FORBIDDEN);
-            }
+                if (room.getRoomStatus().equals(RoomStatus.IN_GAME) || room.getRoomStatus().equals(RoomStatus.ENDED)){
+                    throw new GameRoomException("게임이 시작되거나 종료중입니다. 잠시후 다시 시도해주세요", HttpStatus.FORBIDDEN);
+                }
 
+                // 플레이어가 이미 존재하는지 확인
+                if (room.getPlayers().contains(userId)) {
+                    throw new GameRoomException(userId + " 이미 방에 있습니다.", HttpStatus.FORBIDDEN);
+                }
 
-            // 플레이어 생성
-            PlayerDto player = PlayerDto.builder()
-                    .playerId(userId)
-                    .avatarId(ThreadLocalRandom.current().nextInt(1, joinRoomRequestDto.getAvatarMaxId() + 1))
-                    .playerInfo(joinRoomRequestDto.getUserInfo())
-                    .sequenceNumber(0)
-                    .collectedPuzzlePieces(0)
-                    .usageTime(0)
-                    .surveyScore(joinRoomRequestDto.getSurveyScore())
-                    .isSpeaking(false)
-                    .isReady(false)
-                    .lastPingTime(System.currentTimeMillis())
-                    .seatIndex(-1)
-                    .build();
+                // 현재 플레이어 수 확인
+                if (room.getCurrentPlayers() >= room.getTotalPlayers()) {
+                    throw new GameRoomException("방이 가득찼습니다: " + roomId, HttpStatus.FORBIDDEN);
+                }
 
 
-            synchronized (room) {
-                Long[] seats = room.getSeats();
-                int foundIndex = -1;
-                for (int i = 0; i < seats.length; i++) {
-                    if (seats[i] == null) {
-                        foundIndex = i;
-                        break;
-                    }
-                }
-                if (foundIndex == -1) {
+                PlayerSeats players = room.getPlayers();
+                int foundIndex = players.firstEmptySeat();
+                if (foundIndex == PlayerSeats.NO_SEAT) {
                     throw new GameRoomException("방이 가득찼습니다(동시접근).", HttpStatus.FORBIDDEN);
                 }
 
-                // 자리 배정
-                seats[foundIndex] = userId;
-                player.setSeatIndex(foundIndex);
-
-                // 플레이어 리스트 업데이트에 동기화 적용
-                room.getPlayers().put(userId, player);
-                room.getCurrentPlayers().incrementAndGet();
-            }
-
-
-            return buildWaitingRoomDto(room);
+                // 자리 배정 (방 actor에서 실행되므로 별도 동기화 불필요)
+                long now = System.currentTimeMillis();
+                seatPlayer(players, foundIndex, userId, joinRoomRequestDto.getAvatarMaxId(),
+                        joinRoomRequestDto.getUserInfo(), joinRoomRequestDto.getSurveyScore(), now);
+                room.setCurrentPlayers(room.getCurrentPlayers() + 1);
+                playerExpiryWheel.schedule(roomId, userId, now);
+                recordStateChange(room, StateDeltaType.PLAYER_JOINED, Map.of(
+                        "playerId", userId,
+                        "seatIndex", foundIndex,
+                        "avatarId", players.getAvatarId(foundIndex),
+                        "name", String.valueOf(players.getName(foundIndex))));
+
+
+                return buildWaitingRoomDto(room);
+            });
         }
 
         /**
@@ -325,58 +690,64 @@
          * @param playerId 사용자 id
          */
         public void leaveRoom(String roomId, Long playerId, boolean isIntentional) {
+            roomActorRegistry.run(roomId, () -> {
+                // 방 존재 확인
+                GameRoomDto room = gameRooms.get(roomId);
+                if (room == null) {
+                    throw new GameRoomException("방이 존재하지 않습니다: " + roomId, HttpStatus.NOT_FOUND);
+                }
 
-            // 방 존재 확인
-            GameRoomDto room = gameRooms.get(roomId);
-            if (room == null) {
-                throw new GameRoomException("방이 존재하지 않습니다: " + roomId, HttpStatus.NOT_FOUND);
-            }
-
-            PlayerDto removedPlayer;
-            int seatIndex;
-            int currentPlayersAfter;
+                int seatIndex;
+                int currentPlayersAfter;
 
-            synchronized (room) {
                 // 플레이어 제거
-                removedPlayer = room.getPlayers().remove(playerId);
-                if (removedPlayer == null){
+                seatIndex = room.getPlayers().seatOf(playerId);
+                if (seatIndex == PlayerSeats.NO_SEAT){
                     throw new GameRoomException( "플레이어가 방에 존재하지 않습니다.", HttpStatus.NOT_FOUND);
                 }
-                seatIndex = removedPlayer.getSeatIndex();
+                String removedName = room.getPlayers().getName(seatIndex);
 
-                // seatIndex 자리 null 처리
-                if (seatIndex >= 0 && seatIndex < room.getSeats().length) {
-                    room.getSeats()[seatIndex] = null;
-                }
-                removedPlayer.setSeatIndex(-1);
-
-                currentPlayersAfter = room.getCurrentPlayers().decrementAndGet();// 현재 플레이어수 감소
-            }
+                // 자리 비우기
+                room.vacateSeat(seatIndex);
 
+                currentPlayersAfter = room.getCurrentPlayers() - 1;// 현재 플레이어수 감소
+                room.setCurrentPlayers(currentPlayersAfter);
+                playerExpiryWheel.remove(roomId, playerId);
+                Map<Long, String> nodes = connectionNodes.get(roomId);
+                if (nodes != null) {
+                    nodes.remove(playerId);
+                }
+                Map<Long, Long> notices = reconnectNotices.get(roomId);
+                if (notices != null) {
+                    notices.remove(playerId);
+                }
+                recordStateChange(room, StateDeltaType.PLAYER_LEFT, Map.of("playerId", playerId));
 
-            if (isIntentional){
-                gameSseService.disconnectPlayer(roomId, "player-left", playerId, false);
-            }
 
-            if (currentPlayersAfter <= 0) {
-                deleteRoom(roomId);
-                return;
-            }
+                if (isIntentional){
+                    gameSseService.disconnectPlayer(roomId, "player-left", playerId, false);
+                }
 
-            if (room.getRoomStatus() == RoomStatus.IN_GAME) {
-                InterruptGameAndMoveToWaitingRoom(roomId, removedPlayer);
-            } else if (room.getRoomStatus() == RoomStatus.WAITING) {
-                // 방장이 나간 경우 새로운 방장 무작위로 선정
-                if (room.getHostId().equals(playerId)) {
-                    assignNewHost(room, true);
+                if (currentPlayersAfter <= 0) {
+                    deleteRoom(roomId);
+                    return;
                 }
-                gameSseService.sendRoomEvent(roomId, "player-left", playerId);
-            } else if (room.getRoomStatus() == RoomStatus.ENDED) {
-                // 방장이 나간 경우 새로운 방장 무작위로 선정
-                if (room.getHostId().equals(playerId)) {
-                    assignNewHost(room, false);
+
+                if (room.getRoomStatus() == RoomStatus.IN_GAME) {
+                    InterruptGameAndMoveToWaitingRoom(roomId, playerId, removedName);
+                } else if (room.getRoomStatus() == RoomStatus.WAITING) {
+                    // 방장이 나간 경우 새로운 방장 무작위로 선정
+                    if (room.getHostId().equals(playerId)) {
+                        assignNewHost(room, true);
+                    }
+                    gameSseService.sendRoomEvent(roomId, "player-left", playerId);
+                } else if (room.getRoomStatus() == RoomStatus.ENDED) {
+                    // 방장이 나간 경우 새로운 방장 무작위로 선정
+                    if (room.getHostId().equals(playerId)) {
+                        assignNewHost(room, false);
+                    }
                 }
-            }
+            });
         }
 
         /**
@@ -385,15 +756,18 @@
          * @param playerId
          */
         public void cancelPlayerReadyStatus(String roomId, Long playerId) {
-            GameRoomDto room = gameRooms.get(roomId);
-            PlayerDto player = room.getPlayers().get(playerId);
-            if (player == null) {
-                throw new GameRoomException("해당 플레이어가 존재하지 않습니다.", HttpStatus.NOT_FOUND);
-            }
+            roomActorRegistry.run(roomId, () -> {
+                GameRoomDto room = gameRooms.get(roomId);
+                int seat = room.getPlayers().seatOf(playerId);
+                if (seat == PlayerSeats.NO_SEAT) {
+                    throw new GameRoomException("해당 플레이어가 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+                }
 
-            player.setReady(false);
+                room.getPlayers().setReady(seat, false);
+                recordStateChange(room, StateDeltaType.READY_CHANGED, Map.of("playerId", playerId, "ready", false));
 
-            gameSseService.sendRoomEventToOthers(roomId, "player-ready-canceled", player, playerId);
+                gameSseService.sendRoomEventToOthers(roomId, "player-ready-canceled", room.toPlayerDto(seat), playerId);
+            });
         }
 
         /**
@@ -401,40 +775,45 @@
          * @param roomId
          */
         public void reassignHostIfNeed(String roomId){
-            GameRoomDto room = gameRooms.get(roomId);
-            if (room == null) return;
-
-            // 호스트 id가 없는지 확인
-            if (!room.getPlayers().containsKey(room.getHostId()) && !room.getPlayers().isEmpty()) {
-                assignNewHost(room, false);
-            }
+            roomActorRegistry.run(roomId, () -> {
+                GameRoomDto room = gameRooms.peek(roomId);
+                if (room == null) return;
 
+                // 호스트 id가 없는지 확인
+                if (!room.getPlayers().contains(room.getHostId()) && !room.getPlayers().isEmpty()) {
+                    assignNewHost(room, false);
+                }
+            });
         }
 
         /**
          * * 게임 종료 및 모든 플레이어를 대기방으로 이동
          * @param roomId
+         * @param playerId 나간 플레이어 id
+         * @param playerName 나간 플레이어 이름
          */
-        public void InterruptGameAndMoveToWaitingRoom(String roomId, PlayerDto player){
-            GameRoomDto room = gameRooms.get(roomId);
+        public void InterruptGameAndMoveToWaitingRoom(String roomId, Long playerId, String playerName){
+            roomActorRegistry.run(roomId, () -> {
+                GameRoomDto room = gameRooms.get(roomId);
 
-            log.info("IN_GAME 상태에서 플레이어 {}가 나갔으므로 방 {} 게임 종료 진행", player.getPlayerId(), roomId);
-            String reason = player.getPlayerInfo().getName() + "가 나갔습니다.";
+                log.info("IN_GAME 상태에서 플레이어 {}가 나갔으므로 방 {} 게임 종료 진행", playerId, roomId);
+                String reason = playerName + "가 나갔습니다.";
 
-            // 방상태 ended로 변환
-            room.setRoomStatus(RoomStatus.WAITING);
+                // 방상태 ended로 변환
+                room.setRoomStatus(RoomStatus.WAITING);
+                recordStateChange(room, StateDeltaType.STATUS_CHANGED, Map.of("roomStatus", RoomStatus.WAITING));
 
-            Map<String, String> eventData = Map.of(
-                    "reason", reason,
-                    "data", "게임이 초기화되어 대기방으로 이동합니다."
-            );
+                Map<String, String> eventData = Map.of(
+                        "reason", reason,
+                        "data", "게임이 초기화되어 대기방으로 이동합니다."
+                );
 
-            // 모든 플레이어에게 게임 종료 이벤트 전송
-            gameSseService.sendRoomEvent(roomId, "game-reset", eventData);
-
-            // gameEvent 발행
-            applicationEventPublisher.publishEvent(new GameEndedEvent(this, roomId));
+                // 모든 플레이어에게 게임 종료 이벤트 전송
+                gameSseService.sendRoomEvent(roomId, "game-reset", eventData);
 
+                // gameEvent 발행
+                applicationEventPublisher.publishEvent(new GameEndedEvent(this, roomId));
+            });
         }
 
         /**
@@ -443,14 +822,35 @@
          * @param playerId
          */
         public void updatePingTime(String roomId, Long playerId) {
-            GameRoomDto room = gameRooms.get(roomId);
-            PlayerDto player = room.getPlayers().get(playerId);
+            GameRoomDto room = gameRooms.peek(roomId);
+            int seat = room.getPlayers().seatOf(playerId);
 
-            if (player == null) {
+            if (seat == PlayerSeats.NO_SEAT) {
                 throw new GameRoomException("플레이어가 방에 없음", HttpStatus.NOT_FOUND);
             }
 
-            player.setLastPingTime(System.currentTimeMillis());
+            long now = System.currentTimeMillis();
+            room.getPlayers().setLastPingTime(seat, now);
+            playerExpiryWheel.touch(roomId, playerId, now);
+        }
+
+        /**
+         * SSE heartbeat 전송 성공 시 ping 시간 갱신
+         * 스케줄러에서 호출되므로 방이나 플레이어가 이미 없으면 무시
+         * @param roomId 방 id
+         * @param playerId 플레이어 id
+         */
+        public void refreshPingTime(String roomId, Long playerId) {
+            GameRoomDto room = gameRooms.peek(roomId);
+            if (room == null) {
+                return;
+            }
+            int seat = room.getPlayers().seatOf(playerId);
+            if (seat != PlayerSeats.NO_SEAT) {
+                long now = System.currentTimeMillis();
+                room.getPlayers().setLastPingTime(seat, now);
+                playerExpiryWheel.touch(roomId, playerId, now);
+            }
         }
 
         /**
@@ -460,23 +860,13 @@
          */
         public WaitingRoomDto buildWaitingRoomDto(GameRoomDto room) {
 
-            List<PlayerDto> seatOrdered = new ArrayList<>();
-            Long[] seats = room.getSeats();
-
-            // seat[0] -> seat[1] -> ... 순회하여 player를 seatOrdered에 넣음
-            for (Long seat : seats) {
-                if (seat != null) {
-                    PlayerDto p = room.getPlayers().get(seat);
-                    if (p != null) {
-                        seatOrdered.add(p);
-                    }
-                }
-            }
+            // seat[0] -> seat[1] -> ... 순으로 플레이어 정보 생성
+            List<PlayerDto> seatOrdered = room.toPlayerDtos();
 
             return WaitingRoomDto.builder()
                     .roomId(room.getRoomId())
                     .roomName(room.getRoomName())
-                    .currentPlayers(room.getCurrentPlayers().get())
+                    .currentPlayers(room.getCurrentPlayers())
                     .totalPlayers(room.getTotalPlayers())
                     .hostId(room.getHostId())
                     .players(seatOrdered)
@@ -484,19 +874,85 @@
                     .build();
         }
 
+        /**
+         * 게임 상태 스냅샷 생성
+         * 버전을 먼저 읽으므로 이후 변경은 state-delta로 다시 받게 됨 (delta는 절대값이라 중복 적용해도 같음)
+         * @param room 방 정보
+         * @return GameStateDto
+         */
+        public GameStateDto buildGameStateDto(GameRoomDto room) {
+            long stateVersion = room.getStateVersion();
+
+            return GameStateDto.builder()
+                    .roomId(room.getRoomId())
+                    .roomName(room.getRoomName())
+                    .hostId(room.getHostId())
+                    .totalPlayers(room.getTotalPlayers())
+                    .totalPuzzlePieces(room.getTotalPuzzlePieces())
+                    .currentPuzzlePieces(room.getCurrentPuzzlePieces())
+                    .currentTurn(room.getCurrentTurn())
+                    .currentRound(room.getCurrentRound())
+                    .currentPhase(room.getCurrentPhase())
+                    .assignedPictureCardId(room.getAssignedPictureCardId())
+                    .assignedTextCardId(room.getAssignedTextCardId())
+                    .players(room.toPlayerDtos())
+                    .stateVersion(stateVersion)
+                    .build();
+        }
+
+        /**
+         * 상태 변경을 방 버전 기록에 추가 (재연결 / 변경분 조회에서 사용)
+         * game.state-delta.push 가 켜져 있으면 방 전체에 state-delta 이벤트로도 전송
+         * @param room 방 정보
+         * @param type 변경 종류
+         * @param changes 변경된 필드 (절대값)
+         */
+        public void recordStateChange(GameRoomDto room, StateDeltaType type, Map<String, Object> changes) {
+            GameStateDeltaDto delta = room.appendStateDelta(type, changes);
+            if (pushStateDeltas) {
+                gameSseService.sendRoomEvent(room.getRoomId(), "state-delta", delta);
+            }
+        }
+
+        /**
+         * 주어진 버전 이후의 상태 변경분, 기록에 없으면 전체 게임 상태 스냅샷 (방 actor에서 호출)
+         * @param room 방 정보
+         * @param sinceVersion 클라이언트가 마지막으로 받은 방 상태 버전
+         */
+        public GameStateChangesDto buildGameStateChanges(GameRoomDto room, long sinceVersion) {
+            List<GameStateDeltaDto> deltas = room.getStateDeltasSince(sinceVersion);
+            if (deltas == null) {
+                GameStateDto snapshot = buildGameStateDto(room);
+                return GameStateChangesDto.builder()
+                        .roomId(room.getRoomId())
+                        .version(snapshot.getStateVersion())
+                        .deltas(List.of())
+                        .snapshot(snapshot)
+                        .build();
+            }
+
+            return GameStateChangesDto.builder()
+                    .roomId(room.getRoomId())
+                    .version(deltas.isEmpty() ? sinceVersion : deltas.get(deltas.size() - 1).getVersion())
+                    .deltas(deltas)
+                    .build();
+        }
+
         /**
          * 호스트 재선정
          * @param room
          */
         private void assignNewHost(GameRoomDto room, boolean isEventRequired) {
-            Long newHostId = room.getPlayers().keySet().iterator().next(); // 남은 플레이어 중 하나를 방장으로 설정
+            int hostSeat = room.getPlayers().firstOccupiedSeat(); // 남은 플레이어 중 하나를 방장으로 설정
+            Long newHostId = room.getPlayers().getPlayerId(hostSeat);
             room.setHostId(newHostId);
+            recordStateChange(room, StateDeltaType.HOST_CHANGED, Map.of("hostId", newHostId));
 
             if(isEventRequired) {
                 // 새방장의 이름 가져오기
-                String newHostName = room.getPlayers().get(newHostId).getPlayerInfo().getName();
+                String newHostName = room.getPlayers().getName(hostSeat);
 
-                room.getPlayers().forEach((playerId, player) -> {
+                for (Long playerId : room.getPlayers().playerIds()) {
                     Map<String, Object> eventData = new HashMap<>();
                     String eventName;
 
@@ -513,19 +969,278 @@
 
                     // 특정 사용자에게 이벤트 전송
                     gameSseService.sendToSpecificPlayer(room.getRoomId(), playerId, eventName, eventData);
-                });
+                }
             }
 
             log.info("새로운 방장이 지정되었습니다: roomId={}, newHostId={}", room.getRoomId(), newHostId);
         }
 
+        /**
+         * 방치된 방 정리
+         * 방 actor에서 아직도 정리 조건을 만족하는지 다시 확인한 뒤 (확인 이후 입장 / 재연결 / 게임 시작된 방은 유지)
+         * 남아있는 플레이어의 ping 만료 등록과 SSE 연결을 모두 정리하고 방을 삭제
+         * @param roomId 방 id
+         * @param reason 정리 사유 (idle, capacity)
+         * @param stillEvictable 방 actor 안에서 다시 확인할 정리 조건
+         * @return 정리 여부
+         */
+        public boolean evictRoom(String roomId, String reason, Predicate<GameRoomDto> stillEvictable) {
+            return roomActorRegistry.call(roomId, () -> {
+                GameRoomDto room = gameRooms.peek(roomId);
+                if (room == null || !stillEvictable.test(room)) {
+                    return false;
+                }
+                for (long playerId : room.getPlayers().playerIds()) {
+                    playerExpiryWheel.remove(roomId, playerId);
+                }
+                deleteRoom(roomId);
+                gameMetrics.roomEvicted(reason);
+                log.info("방치된 방 정리: roomId={}, status={}, reason={}", roomId, room.getRoomStatus(), reason);
+                return true;
+            });
+        }
+
+        /**
+         * 방치된 방인지 확인 (게임중이 아니고 SSE 연결이 없으며 일정 시간 활동이 없음)
+         * @param room 방 정보
+         * @param now 현재 시각
+         * @param minIdleMs 최소 방치 시간
+         */
+        public boolean isAbandoned(GameRoomDto room, long now, long minIdleMs) {
+            return room.getRoomStatus() != RoomStatus.IN_GAME
+                    && !hasConnections(room.getRoomId())
+                    && now - room.getLastActiveTime() >= minIdleMs;
+        }
+
+        /**
+         * 정리 후보 중 아직도 방치된 방 하나를 정리하고 자리 예약
+         * @return 예약 성공 여부
+         */
+        private boolean reserveByEvictingAbandonedRoom() {
+            long now = System.currentTimeMillis();
+            String candidate;
+            while ((candidate = gameRooms.pollEvictionCandidate()) != null) {
+                GameRoomDto room = gameRooms.peek(candidate);
+                if (room == null || !isAbandoned(room, now, gameRooms.getEvictMinIdleMs())) {
+                    continue;
+                }
+                try {
+                    if (!evictRoom(candidate, "capacity", r -> isAbandoned(r, now, gameRooms.getEvictMinIdleMs()))) {
+                        continue; // 그 사이 다시 사용된 방
+                    }
+                } catch (GameRoomException e) {
+                    continue; // 그 사이 삭제된 방
+                }
+                if (gameRooms.tryReserve()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 종료 준비 시작, 이후 새 방 생성 / 입장은 503 + Retry-After 로 거절
+         * SSE 연결은 retry: 와 server-draining 이벤트만 보내고 닫아 다른 노드로 재연결하게 함
+         * 진행 중인 방의 명령(준비, 투표, 나가기 등)은 계속 처리
+         */
+        public void startDraining() {
+            draining = true;
+        }
+
+        public boolean isDraining() {
+            return draining;
+        }
+
+        private void rejectIfDraining() {
+            if (draining) {
+                throw new NodeDrainingException("서버 점검 중입니다. 잠시 후 다시 시도해주세요.",
+                        gameRooms.getRetryAfterSeconds());
+            }
+        }
+
+        /**
+         * 방을 저장소에 저장하고 이 노드에서 내려놓음 (담당 노드가 바뀐 경우)
+         * 다음 명령이 새 담당 노드로 전달되면 새 담당 노드가 저장소에서 방을 가져감
+         * 이 노드의 SSE 연결은 그대로 두고 방 topic으로 새 담당 노드의 이벤트를 계속 받음
+         * @param roomId 방 id
+         */
+        public void handOffRoom(String roomId) {
+            roomActorRegistry.run(roomId, () -> {
+                GameRoomDto room = gameRooms.peek(roomId);
+                if (room == null) {
+                    return;
+                }
+                // 새 담당 노드가 가져가기 전에 저장이 끝나야 하므로 앞서 넘긴 쓰기까지 마칠 때까지 대기
+                RoomSnapshot snapshot = RoomSnapshot.of(room);
+                roomSaveExecutor.executeAndWait(() -> {
+                    roomStore.save(snapshot);
+                    roomJournal.delete(roomId);
+                });
+                room.clearUnsaved();
+                unstoredRooms.remove(roomId);
+                roomViewCache.remove(roomId);
+
+                for (long playerId : room.getPlayers().playerIds()) {
+                    playerExpiryWheel.remove(roomId, playerId);
+                }
+                gameRooms.remove(roomId);
+                roomActorRegistry.remove(roomId);
+                connectionNodes.remove(roomId);
+                reconnectNotices.remove(roomId);
+                log.info("방을 담당 노드로 넘김: roomId={}, status={}", roomId, room.getRoomStatus());
+            });
+        }
+
+        /**
+         * 이 노드가 더 이상 담당하지 않는 방을 모두 넘김 (클러스터 노드 구성 변경 / 종료 준비 시)
+         * @return 넘긴 방 수
+         */
+        public int handOffForeignRooms() {
+            int handedOff = 0;
+            for (GameRoomDto room : getAllRooms()) {
+                if (roomOwnership.isLocal(room.getRoomId())) {
+                    continue;
+                }
+                try {
+                    handOffRoom(room.getRoomId());
+                    handedOff++;
+                } catch (GameRoomException e) {
+                    // 그 사이 삭제된 방
+                }
+            }
+            if (handedOff > 0) {
+                log.info("담당 노드가 바뀐 방 넘김 완료: handedOff={}, rooms={}", handedOff, gameRooms.size());
+            }
+            return handedOff;
+        }
+
+        /**
+         * 이 노드가 담당하는 방이면 저장소에서 가져와 등록
+         * @param roomId 방 id
+         * @return 등록 여부 (이미 등록된 경우 포함)
+         */
+        private boolean adoptRoom(String roomId) {
+            if (!roomOwnership.isLocal(roomId)) {
+                return false;
+            }
+
+            synchronized (adoptLock) {
+                if (gameRooms.peek(roomId) != null) {
+                    return true;
+                }
+                RoomSnapshot snapshot = roomStore.find(roomId);
+                if (snapshot == null) {
+                    return false;
+                }
+
+                GameRoomDto room = registerRestoredRoom(snapshot);
+                roomJournal.append(snapshot);
+                log.info("방 저장소에서 방을 가져옴: roomId={}, status={}, players={}",
+                        roomId, room.getRoomStatus(), room.getCurrentPlayers());
+                return true;
+            }
+        }
+
+        /**
+         * 스냅샷으로 방을 만들어 등록 (저장소에서 가져옴 / 재시작 후 복원)
+         * @param snapshot 방 스냅샷
+         * @return 등록한 방
+         */
+        private GameRoomDto registerRestoredRoom(RoomSnapshot snapshot) {
+            if (!gameRooms.tryReserve()) {
+                gameMetrics.roomRejected();
+                throw new RoomCapacityExceededException("현재 방을 불러올 수 없습니다. 잠시 후 다시 시도해주세요.",
+                        gameRooms.getRetryAfterSeconds());
+            }
+
+            String roomId = snapshot.roomId();
+            GameRoomDto room = snapshot.restore();
+            PlayerSeats players = room.getPlayers();
+            players.internSchools(playerInfoInterner::intern);
+
+            roomActorRegistry.register(roomId);
+            gameRooms.put(room);
+            for (int seat = 0; seat < players.size(); seat++) {
+                if (players.isOccupied(seat)) {
+                    playerExpiryWheel.schedule(roomId, players.getPlayerId(seat), players.getLastPingTime(seat));
+                }
+            }
+            gameSseService.resumeRoom(roomId);
+            return room;
+        }
+
+        /**
+         * 방 명령으로 바뀐 방 반영 (방 actor에서 호출)
+         * 캐시된 조회 응답을 새 버전으로 바꾸고, journal을 켠 경우만 스냅샷을 만들어 저장 스레드에서 기록
+         * 방 저장소 저장은 명령마다 하지 않고 표시만 해두었다가 flushUnstoredRooms / 노드 이동 때 저장
+         * @param roomId 방 id
+         */
+        private void saveRoom(String roomId) {
+            GameRoomDto room = gameRooms.peek(roomId);
+            if (room == null || !room.clearUnsaved()) {
+                return;
+            }
+            roomViewCache.invalidate(roomId);
+            unstoredRooms.add(roomId);
+            if (roomJournal.isEnabled()) {
+                RoomSnapshot snapshot = RoomSnapshot.of(room);
+                roomSaveExecutor.execute(() -> roomJournal.append(snapshot));
+            }
+        }
+
+        /**
+         * 바뀐 방을 방 저장소에 저장 (여러 노드로 운영할 때만, 노드 장애 시 다른 노드가 가져갈 수 있도록)
+         * 노드 하나면 가져갈 노드가 없으므로 저장하지 않고, 노드가 늘어나면 넘길 방은 handOffRoom에서 바로 저장
+         * 스냅샷은 방 actor에서 만들고 저장은 저장 스레드에서 실행, 실패하면 다음 주기에 다시 저장
+         */
+        @Scheduled(fixedDelayString = "${game.cluster.store-flush-interval-ms:5000}")
+        public void flushUnstoredRooms() {
+            if (roomOwnership.isSingleNode() || unstoredRooms.isEmpty()) {
+                return;
+            }
+            int flushed = 0;
+            for (String roomId : List.copyOf(unstoredRooms)) {
+                unstoredRooms.remove(roomId);
+                try {
+                    roomActorRegistry.run(roomId, () -> {
+                        GameRoomDto room = gameRooms.peek(roomId);
+                        if (room == null) {
+                            return;
+                        }
+                        RoomSnapshot snapshot = RoomSnapshot.of(room);
+                        roomSaveExecutor.execute(() -> {
+                            try {
+                                roomStore.save(snapshot);
+                            } catch (RuntimeException e) {
+                                unstoredRooms.add(roomId);
+                                log.warn("방 저장 실패: roomId={}, error={}", roomId, e.getMessage());
+                            }
+                        });
+                    });
+                    flushed++;
+                } catch (GameRoomException e) {
+                    // 그 사이 삭제되거나 다른 노드로 넘어간 방
+                }
+            }
+            log.debug("방 저장소 주기 저장: rooms={}", flushed);
+        }
+
         /**
          * 방 삭제 함수
          * @param roomId
          */
         private void deleteRoom(String roomId) {
             gameRooms.remove(roomId);
-            gameSseService.removeEmitters(roomId);
+            unstoredRooms.remove(roomId);
+            roomSaveExecutor.execute(() -> {
+                roomStore.delete(roomId);
+                roomJournal.delete(roomId);
+            });
+            roomActorRegistry.remove(roomId);
+            connectionNodes.remove(roomId);
+            reconnectNotices.remove(roomId);
+            roomViewCache.remove(roomId);
+            gameSseService.closeRoom(roomId);
             log.info("방이 삭제되었습니다: roomId={}", roomId);
         }
     }
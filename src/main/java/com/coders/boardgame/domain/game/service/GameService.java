@@ -1,10 +1,15 @@
 package com.coders.boardgame.domain.game.service;
 
+import com.coders.boardgame.domain.game.actor.RoomActorRegistry;
+import com.coders.boardgame.domain.game.component.RoomViewCache;
 import com.coders.boardgame.domain.game.dto.GameRoomDto;
-import com.coders.boardgame.domain.game.dto.GameStateDto;
-import com.coders.boardgame.domain.game.dto.PlayerDto;
+import com.coders.boardgame.domain.game.dto.GameStateChangesDto;
+import com.coders.boardgame.domain.game.dto.PlayerSeats;
+import com.coders.boardgame.domain.game.dto.VoteBoard;
 import com.coders.boardgame.domain.game.enums.GamePhase;
 import com.coders.boardgame.domain.game.enums.RoomStatus;
+import com.coders.boardgame.domain.game.enums.StateDeltaType;
+import com.coders.boardgame.domain.game.enums.VoteChoice;
 import com.coders.boardgame.exception.GameRoomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 
@@ -23,8 +27,8 @@ public class GameService {
 
     private final GameRoomService gameRoomService;
     private final GameSseService gameSseService;
+    private final RoomActorRegistry roomActorRegistry; // 방별 명령 직렬 실행
 
-    private final Map<String, Map<Long, String>> votes = new ConcurrentHashMap<>();
 
     /**
      * 게임 시작 시 게임정보를 SSE로 방에 있는 모든 클라이언트한테 전달
@@ -33,72 +37,86 @@ public class GameService {
      * @param hostId 호스트 id
      */
     public void startGame(String roomId, Long hostId) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-
-        // 호스트 확인
-        if (!room.getHostId().equals(hostId)) {
-            throw new GameRoomException("게임을 시작할 권한이 없습니다.", HttpStatus.FORBIDDEN);
-        }
-
-        // 참가자 수 확인
-        if (room.getCurrentPlayers().get() < room.getTotalPlayers()) {
-            throw new GameRoomException("참가자가 방에 다 있지 않습니다.", HttpStatus.CONFLICT);
-        }
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
 
-        // 참가자 모두 준비완료 했는지
-        if (!room.getPlayers().values().stream().allMatch(PlayerDto::isReady)) {
-            throw new GameRoomException("참가자가 모두 준비상태가 아닙니다.", HttpStatus.FORBIDDEN);
-        }
+            // 호스트 확인
+            if (!room.getHostId().equals(hostId)) {
+                throw new GameRoomException("게임을 시작할 권한이 없습니다.", HttpStatus.FORBIDDEN);
+            }
 
-        // 모든 조건이 충족되었으므로 게임 시작 상태 변경
-        if (room.getRoomStatus() != RoomStatus.WAITING) {
-            throw new GameRoomException("이미 게임이 시작되었습니다.", HttpStatus.CONFLICT);
-        }
+            // 참가자 수 확인
+            if (room.getCurrentPlayers() < room.getTotalPlayers()) {
+                throw new GameRoomException("참가자가 방에 다 있지 않습니다.", HttpStatus.CONFLICT);
+            }
 
-        // 방 상태르 IN_GAME으로 변경
-        room.setRoomStatus(RoomStatus.IN_GAME);
+            // 참가자 모두 준비완료 했는지
+            if (!room.getPlayers().allReady()) {
+                throw new GameRoomException("참가자가 모두 준비상태가 아닙니다.", HttpStatus.FORBIDDEN);
+            }
 
-        // 게임 상태 초기화
-        room.setCurrentTurn(1);
-        room.setAssignedPictureCardId(0);
-        room.setAssignedTextCardId(0);
-        room.setCurrentPuzzlePieces(0);
-        room.setCurrentRound(1);
+            // 모든 조건이 충족되었으므로 게임 시작 상태 변경
+            if (room.getRoomStatus() != RoomStatus.WAITING) {
+                throw new GameRoomException("이미 게임이 시작되었습니다.", HttpStatus.CONFLICT);
+            }
 
-        // 게임 시작 알림
-        gameSseService.sendRoomEvent(roomId, "game-started", roomId);
-        log.info("게임 시작됨: roomId={}, hostId={}", roomId, hostId);
+            // 방 상태르 IN_GAME으로 변경
+            room.setRoomStatus(RoomStatus.IN_GAME);
+
+            // 게임 상태 초기화
+            room.setCurrentTurn(1);
+            room.setAssignedPictureCardId(0);
+            room.setAssignedTextCardId(0);
+            room.setCurrentPuzzlePieces(0);
+            room.setCurrentRound(1);
+            gameRoomService.recordStateChange(room, StateDeltaType.STATUS_CHANGED, Map.of(
+                    "roomStatus", RoomStatus.IN_GAME,
+                    "currentTurn", 1,
+                    "currentRound", 1,
+                    "currentPuzzlePieces", 0
+            ));
+
+            // 게임 시작 알림
+            gameSseService.sendRoomEvent(roomId, "game-started", roomId);
+            log.info("게임 시작됨: roomId={}, hostId={}", roomId, hostId);
+        });
     }
 
     /**
      * 게임 정보 반환
      * @param roomId
      * @param playerId
-     * @return
+     * @return 방 버전 ETag와 GameStateDto JSON
      */
-    public GameStateDto getGameState(String roomId, Long playerId) {
+    public RoomViewCache.CachedView getGameState(String roomId, Long playerId) {
         GameRoomDto room = gameRoomService.getRoom(roomId);
 
-        if (!room.getPlayers().containsKey(playerId)) {
+        if (!room.getPlayers().contains(playerId)) {
             throw new GameRoomException("해당 방에 참여하고 있지 않습니다.", HttpStatus.FORBIDDEN);
         }
 
-        // GameStateDto 생성
-        return GameStateDto.builder()
-                .roomId(roomId)
-                .roomName(room.getRoomName())
-                .hostId(room.getHostId())
-                .totalPlayers(room.getTotalPlayers())
-                .totalPuzzlePieces(room.getTotalPuzzlePieces())
-                .currentPuzzlePieces(room.getCurrentPuzzlePieces())
-                .currentTurn(room.getCurrentTurn())
-                .currentRound(room.getCurrentRound())
-                .currentPhase(room.getCurrentPhase())
-                .assignedPictureCardId(room.getAssignedPictureCardId())
-                .assignedTextCardId(room.getAssignedTextCardId())
-                .players(new ArrayList<>(room.getPlayers().values()))
-                .build();
+        // 방이 바뀌지 않았으면 직렬화한 GameStateDto를 그대로 사용
+        return gameRoomService.getGameStateView(room);
+    }
 
+    /**
+     * 특정 버전 이후의 게임 상태 변경 반환
+     * 요청한 버전의 변경 기록이 남아있지 않으면 전체 상태를 함께 반환
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param sinceVersion 클라이언트가 가진 상태 버전
+     * @return GameStateChangesDto
+     */
+    public GameStateChangesDto getGameStateChanges(String roomId, Long playerId, long sinceVersion) {
+        return roomActorRegistry.call(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
+
+            if (!room.getPlayers().contains(playerId)) {
+                throw new GameRoomException("해당 방에 참여하고 있지 않습니다.", HttpStatus.FORBIDDEN);
+            }
+
+            return gameRoomService.buildGameStateChanges(room, sinceVersion);
+        });
     }
 
     /**
@@ -109,49 +127,49 @@ public class GameService {
      * @param usageTime 스마트폰 사용 시간
      */
     public void setUsageTime(String roomId, Long playerId, int usageTime) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-
-        // 플레이어가 방에 존재하는 지 확인
-        PlayerDto player = room.getPlayers().computeIfPresent(playerId, (id, p) -> {
-            p.setUsageTime(usageTime);
-            return p;
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
+
+            // 플레이어가 방에 존재하는 지 확인
+            PlayerSeats players = room.getPlayers();
+            int seat = players.seatOf(playerId);
+            if (seat == PlayerSeats.NO_SEAT) {
+                throw new GameRoomException("플레이어가 방에 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+            }
+            players.setUsageTime(seat, usageTime);
+            room.markUnsaved();
+
+            // 모든 플레이어가 사용 시간을 입력했는지 확인
+            if (players.allUsageTimesSet()) {
+                // 순번 매기기: 사용시간 -> 설문 점수 -> 랜덤 순서
+                int[] tieBreakers = new int[players.size()];
+                List<Integer> sortedSeats = new ArrayList<>(players.size());
+                for (int s = 0; s < players.size(); s++) {
+                    if (players.isOccupied(s)) {
+                        tieBreakers[s] = ThreadLocalRandom.current().nextInt();
+                        sortedSeats.add(s);
+                    }
+                }
+                sortedSeats.sort(Comparator.<Integer>comparingInt(players::getUsageTime)
+                        .thenComparing(Comparator.<Integer>comparingInt(players::getSurveyScore).reversed())
+                        .thenComparingInt(s -> tieBreakers[s]));
+
+                // 순번 할당 (이후 턴 이동 / 발화자 조회는 순번 배열로 처리)
+                room.assignTurnOrder(sortedSeats.stream().mapToInt(Integer::intValue).toArray());
+
+                // 순번 배치 완료 이벤트 전송
+                Map<Long, Integer> playerOrder = new HashMap<>();
+                sortedSeats.forEach(s -> playerOrder.put(players.getPlayerId(s), players.getSequenceNumber(s)));
+                gameRoomService.recordStateChange(room, StateDeltaType.ORDER_ASSIGNED, Map.of("order", playerOrder));
+                gameSseService.sendRoomEvent(roomId, "player-order-assigned", playerOrder);
+
+                log.info("순번 배치 완료: roomId= {}, 순번 = {}", roomId, playerId);
+            } else {
+                // 플레이어 이름과 함께 로그 출력
+                String playerName = players.getName(seat);
+                log.debug("플레이어 '{}'가 사용 시간을 설정했습니다: roomId={}, usageTime={}분", playerName, roomId, usageTime);
+            }
         });
-
-        if (player == null) {
-            throw new GameRoomException("플레이어가 방에 존재하지 않습니다.", HttpStatus.NOT_FOUND);
-        }
-
-        // 모든 플레이어가 사용 시간을 입력했는지 확인
-        boolean allPlayersSet = room.getPlayers().values().stream()
-                .allMatch(p -> p.getUsageTime() > 0);
-
-        if (allPlayersSet) {
-            // 순번 매기기: 사용시간 -> 설문 점수 -> 랜덤 순서
-            List<PlayerDto> sortedPlayers = new ArrayList<>(room.getPlayers().values());
-            sortedPlayers.sort(Comparator.comparingInt(PlayerDto::getUsageTime)
-                    .thenComparing(Comparator.comparingInt(PlayerDto::getSurveyScore).reversed())
-                    .thenComparing(p -> ThreadLocalRandom.current().nextInt()));
-
-            // 순번 할당
-            int[] index = {1};
-            sortedPlayers.forEach(p -> {
-                room.getPlayers().computeIfPresent(p.getPlayerId(), (id, p1) -> {
-                    p1.setSequenceNumber(index[0]++);
-                    return p1;
-                });
-            });
-
-            // 순번 배치 완료 이벤트 전송
-            Map<Long, Integer> playerOrder = new HashMap<>();
-            sortedPlayers.forEach(p -> playerOrder.put(p.getPlayerId(), p.getSequenceNumber()));
-            gameSseService.sendRoomEvent(roomId, "player-order-assigned", playerOrder);
-
-            log.info("순번 배치 완료: roomId= {}, 순번 = {}", roomId, playerId);
-        } else {
-            // 플레이어 이름과 함께 로그 출력
-            String playerName = player.getPlayerInfo().getName();
-            log.debug("플레이어 '{}'가 사용 시간을 설정했습니다: roomId={}, usageTime={}분", playerName, roomId, usageTime);
-        }
     }
 
     /**
@@ -162,41 +180,48 @@ public class GameService {
      * @param userId      요청한 사용자 ID
      */
     public void startRound(String roomId, int roundNumber, Long userId) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-
-        // 호스트 확인
-        if (!room.getHostId().equals(userId)) {
-            throw new GameRoomException("라운드를 시작할 권한이 없습니다.", HttpStatus.FORBIDDEN);
-        }
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
 
-        // 게임 시작 여부 확인
-        if (room.getRoomStatus() != RoomStatus.IN_GAME) {
-            throw new GameRoomException("게임이 아직 시작되지 않았습니다.", HttpStatus.CONFLICT);
-        }
-
-        // 라운드 상태 업데이트
-        room.setCurrentRound(roundNumber);
-        room.setCurrentPhase(GamePhase.DISCUSSION);
+            // 호스트 확인
+            if (!room.getHostId().equals(userId)) {
+                throw new GameRoomException("라운드를 시작할 권한이 없습니다.", HttpStatus.FORBIDDEN);
+            }
 
-        // 첫 번쨰 순번인 플레이어 찾기
-        PlayerDto speaker = room.getPlayers().values().stream()
-                .filter(p -> p.getSequenceNumber() == 1)
-                .findFirst()
-                .orElseThrow(() -> new GameRoomException("순번이 지정된 플레이어가 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR));
-        // speaker 미리 저장
+            // 게임 시작 여부 확인
+            if (room.getRoomStatus() != RoomStatus.IN_GAME) {
+                throw new GameRoomException("게임이 아직 시작되지 않았습니다.", HttpStatus.CONFLICT);
+            }
 
-        // 발화자 설정 (서버 측에서 상태 관리하기
-        speaker.setSpeaking(true);
+            // 라운드 상태 업데이트
+            room.setCurrentRound(roundNumber);
+            room.setCurrentPhase(GamePhase.DISCUSSION);
 
-        Map<String, Object> eventData = Map.of(
-                "round", roundNumber,
-                "speakerId", speaker.getPlayerId(),
-                "currentPhase", room.getCurrentPhase()
-        );
+            // 첫 번쨰 순번인 플레이어 찾기
+            int speakerSeat = room.getSeatAt(1);
+            if (speakerSeat == PlayerSeats.NO_SEAT) {
+                throw new GameRoomException("순번이 지정된 플레이어가 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            Long speakerId = room.getPlayers().getPlayerId(speakerSeat);
+
+            // 발화자 설정 (서버 측에서 상태 관리하기
+            room.changeSpeaker(speakerSeat);
+            gameRoomService.recordStateChange(room, StateDeltaType.ROUND_STARTED, Map.of(
+                    "round", roundNumber,
+                    "phase", room.getCurrentPhase(),
+                    "speakerId", speakerId
+            ));
+
+            Map<String, Object> eventData = Map.of(
+                    "round", roundNumber,
+                    "speakerId", speakerId,
+                    "currentPhase", room.getCurrentPhase()
+            );
 
-        gameSseService.sendRoomEvent(roomId, "round-" + roundNumber + "-started", eventData);
+            gameSseService.sendRoomEvent(roomId, "round-" + roundNumber + "-started", eventData);
 
-        log.info("라운드 {}가 시작되었습니다: roomId={}, speakerId={}", roundNumber, roomId, speaker.getPlayerId());
+            log.info("라운드 {}가 시작되었습니다: roomId={}, speakerId={}", roundNumber, roomId, speakerId);
+        });
     }
 
     /**
@@ -211,51 +236,52 @@ public class GameService {
      * @throws GameRoomException 잘못된 카드 타입이 입력되었을 때 발생
      */
     public void assignCard(String roomId, int maxId, String cardType) {
-
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-
-        int assignedCardId;
-
-        // 카드 상태 업데이트
-        if ("picture".equals(cardType)) {
-            if (room.isPictureCardAssigned()) {
-                throw new GameRoomException("이미 그림카드가 부여되었습니다.", HttpStatus.CONFLICT);
-            }
-
-            room.setPictureCardAssigned(true);
-            assignedCardId = ThreadLocalRandom.current().nextInt(1, maxId + 1);
-            room.setAssignedPictureCardId(assignedCardId);
-        } else if ("text".equals(cardType)) {
-            if (room.isTextCardAssigned()) {
-                throw new GameRoomException("이미 글자 카드가 부여되었습니다.", HttpStatus.CONFLICT);
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
+
+            int assignedCardId;
+
+            // 카드 상태 업데이트
+            if ("picture".equals(cardType)) {
+                if (room.isPictureCardAssigned()) {
+                    throw new GameRoomException("이미 그림카드가 부여되었습니다.", HttpStatus.CONFLICT);
+                }
+
+                room.setPictureCardAssigned(true);
+                assignedCardId = ThreadLocalRandom.current().nextInt(1, maxId + 1);
+                room.setAssignedPictureCardId(assignedCardId);
+            } else if ("text".equals(cardType)) {
+                if (room.isTextCardAssigned()) {
+                    throw new GameRoomException("이미 글자 카드가 부여되었습니다.", HttpStatus.CONFLICT);
+                }
+
+                room.setTextCardAssigned(true);
+                assignedCardId = ThreadLocalRandom.current().nextInt(1, maxId + 1);
+                room.setAssignedTextCardId(assignedCardId);
+            } else {
+                throw new GameRoomException("잘못된 카드 타입입니다.", HttpStatus.FORBIDDEN);
             }
+            gameRoomService.recordStateChange(room, StateDeltaType.CARD_ASSIGNED, Map.of("cardType", cardType, "cardId", assignedCardId));
 
-            room.setTextCardAssigned(true);
-            assignedCardId = ThreadLocalRandom.current().nextInt(1, maxId + 1);
-            room.setAssignedTextCardId(assignedCardId);
-        } else {
-            throw new GameRoomException("잘못된 카드 타입입니다.", HttpStatus.FORBIDDEN);
-        }
-
-
-        // 이벤트 데이터 생성
-        Map<String, Object> eventData = Map.of(
-                "cardType", cardType,
-                "cardId", assignedCardId
-        );
-
-        gameSseService.sendRoomEvent(roomId, "card-assigned", eventData);
-        log.info("{}에 {}타입의 카드가 부여되었습니다.", roomId, cardType);
-
-        // 모든 카드가 부여되었는지 확인
-        if (room.isPictureCardAssigned() && room.isTextCardAssigned()) {
-            // 타이머 시작 이벤트 데이터 생성
-            Map<String, Object> timerEventData = Map.of(
-                    "startTime", System.currentTimeMillis()
+            // 이벤트 데이터 생성
+            Map<String, Object> eventData = Map.of(
+                    "cardType", cardType,
+                    "cardId", assignedCardId
             );
-            gameSseService.sendRoomEvent(roomId, "timer-start", timerEventData);
-            log.info("{}안에 카드가 모두 부여되어서 타이머가 시작합니다.", roomId);
-        }
+
+            gameSseService.sendRoomEvent(roomId, "card-assigned", eventData);
+            log.info("{}에 {}타입의 카드가 부여되었습니다.", roomId, cardType);
+
+            // 모든 카드가 부여되었는지 확인
+            if (room.isPictureCardAssigned() && room.isTextCardAssigned()) {
+                // 타이머 시작 이벤트 데이터 생성
+                Map<String, Object> timerEventData = Map.of(
+                        "startTime", System.currentTimeMillis()
+                );
+                gameSseService.sendRoomEvent(roomId, "timer-start", timerEventData);
+                log.info("{}안에 카드가 모두 부여되어서 타이머가 시작합니다.", roomId);
+            }
+        });
     }
 
     /**
@@ -278,9 +304,12 @@ public class GameService {
      * @param roomId 방 id
      */
     public void endSpeaking(String roomId) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-        room.setCurrentPhase(GamePhase.VOTING);
-        gameSseService.sendRoomEvent(room.getRoomId(), "speaking-end", "말하기가 종료되었습니다.");
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
+            room.setCurrentPhase(GamePhase.VOTING);
+            gameRoomService.recordStateChange(room, StateDeltaType.PHASE_CHANGED, Map.of("phase", GamePhase.VOTING));
+            gameSseService.sendRoomEvent(room.getRoomId(), "speaking-end", "말하기가 종료되었습니다.");
+        });
     }
 
     /**
@@ -294,13 +323,26 @@ public class GameService {
      * @param vote  플레이어가 선택한 투표 결과 ("agree" 또는 "disagree")
      */
     public void castVote(String roomId, Long playerId, String vote) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
 
-        votes.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(playerId, vote);
+            VoteChoice choice = VoteChoice.from(vote);
+            if (choice == null) {
+                throw new GameRoomException("잘못된 투표 값입니다: " + vote, HttpStatus.BAD_REQUEST);
+            }
+            int seat = room.getPlayers().seatOf(playerId);
+            if (seat == PlayerSeats.NO_SEAT) {
+                throw new GameRoomException("플레이어가 방에 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+            }
 
-        if(votes.get(roomId).size() == room.getTotalPlayers() -1){
-            processVoteResults(room);
-        }
+            VoteBoard voteBoard = room.getVoteBoard();
+            voteBoard.cast(seat, choice);
+            room.markUnsaved();
+
+            if(voteBoard.getCastCount() == room.getTotalPlayers() -1){
+                processVoteResults(room);
+            }
+        });
     }
 
     /**
@@ -308,28 +350,35 @@ public class GameService {
      * @param roomId 방 id
      */
     public void resetGame(String roomId) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
-
-        // 게임 상태 초기화
-        room.setCurrentRound(0);
-        room.setCurrentTurn(0);
-        room.setCurrentPhase(GamePhase.NONE);
-        room.setAssignedPictureCardId(0);
-        room.setAssignedTextCardId(0);
-        room.setTextCardAssigned(false);
-        room.setPictureCardAssigned(false);
-        room.setCurrentPuzzlePieces(0);
-        room.setHasReVoted(false);
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
+
+            // 게임 상태 초기화
+            room.setCurrentRound(0);
+            room.setCurrentTurn(0);
+            room.setCurrentPhase(GamePhase.NONE);
+            room.setAssignedPictureCardId(0);
+            room.setAssignedTextCardId(0);
+            room.setTextCardAssigned(false);
+            room.setPictureCardAssigned(false);
+            room.setCurrentPuzzlePieces(0);
+            room.setHasReVoted(false);
 
-        // 플레이어 상태 초기화
-        room.getPlayers().values().forEach(this::resetPlayerState);
+            // 플레이어 상태 초기화
+            room.clearTurnOrder();
+            PlayerSeats players = room.getPlayers();
+            for (int seat = 0; seat < players.size(); seat++) {
+                players.resetGameState(seat);
+            }
 
-        // 투표 데이터 초기화
-        votes.remove(roomId);
+            // 투표 데이터 초기화
+            room.clearVotes();
+            gameRoomService.recordStateChange(room, StateDeltaType.GAME_RESET, Map.of("roomStatus", room.getRoomStatus()));
 
-        gameRoomService.reassignHostIfNeed(roomId);
+            gameRoomService.reassignHostIfNeed(roomId);
 
-        log.info("게임이 초기화되었습니다: roomId={}", roomId);
+            log.info("게임이 초기화되었습니다: roomId={}", roomId);
+        });
     }
 
     /**
@@ -338,25 +387,26 @@ public class GameService {
      * @param playerId
      */
     public void retryGame(String roomId, Long playerId) {
-        GameRoomDto room = gameRoomService.getRoom(roomId);
+        roomActorRegistry.run(roomId, () -> {
+            GameRoomDto room = gameRoomService.getRoom(roomId);
 
-        // 플레이어 정보 가져오기
-        PlayerDto player = room.getPlayers().get(playerId);
-        if (player == null) {
-            throw new GameRoomException("플레이어가 방에 존재하지 않습니다.", HttpStatus.NOT_FOUND);
-        }
-
-        log.info("플레이어가 다시하기를 요청했습니다: playerId={}, roomId={}", playerId, roomId);
+            // 플레이어 정보 가져오기
+            if (!room.getPlayers().contains(playerId)) {
+                throw new GameRoomException("플레이어가 방에 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+            }
 
-        // 게임 상태 확인 및 처리
-        if (room.getRoomStatus() != RoomStatus.WAITING) {
-            room.setRoomStatus(RoomStatus.WAITING);
-            log.info("게임 상태를 대기중으로 변경 했습니다.");
-        }
+            log.info("플레이어가 다시하기를 요청했습니다: playerId={}, roomId={}", playerId, roomId);
 
-        // 게임 재시작 요청 시 이떄 연결 해제
-        gameSseService.disconnectPlayer(roomId, "reConnectToRetry", playerId, false);
+            // 게임 상태 확인 및 처리
+            if (room.getRoomStatus() != RoomStatus.WAITING) {
+                room.setRoomStatus(RoomStatus.WAITING);
+                gameRoomService.recordStateChange(room, StateDeltaType.STATUS_CHANGED, Map.of("roomStatus", RoomStatus.WAITING));
+                log.info("게임 상태를 대기중으로 변경 했습니다.");
+            }
 
+            // 게임 재시작 요청 시 이떄 연결 해제
+            gameSseService.disconnectPlayer(roomId, "reConnectToRetry", playerId, false);
+        });
     }
 
     /**
@@ -369,20 +419,25 @@ public class GameService {
      * @param room  투표 결과를 처리할 방 정보 (GameRoomDto)
      */
     private void processVoteResults(GameRoomDto room) {
-        Map<Long, String> roomVotes = votes.get(room.getRoomId());
+        VoteBoard voteBoard = room.getVoteBoard();
 
         int totalPlayers = room.getTotalPlayers();
-        int agreeCount = (int) roomVotes.values().stream().filter(v -> v.equals("agree")).count();
-        int disagreeCount = (int) roomVotes.values().stream().filter(v -> v.equals("disagree")).count();
+        int agreeCount = voteBoard.getAgreeCount();
+        int disagreeCount = voteBoard.getDisagreeCount();
 
 
         boolean puzzleAcquired = totalPlayers == 3
                 ? agreeCount >= 1
-                : agreeCount >= (int) Math.ceil(totalPlayers / 2.0);
+                : agreeCount >= (totalPlayers + 1) / 2;
 
-        Map<String, Object> eventData = new HashMap<>(puzzleAcquired
-                ? handlePuzzleAcquired(room, agreeCount, disagreeCount)
-                : handlePuzzleFailed(room, agreeCount, disagreeCount, roomVotes));
+        Map<String, Object> eventData = new HashMap<>(8);
+        eventData.put("agreeCount", agreeCount);
+        eventData.put("disagreeCount", disagreeCount);
+        if (puzzleAcquired) {
+            handlePuzzleAcquired(room, eventData);
+        } else {
+            handlePuzzleFailed(room, voteBoard, eventData);
+        }
 
         // result를 확인해서 분기
         String result = (String) eventData.get("result");
@@ -391,53 +446,47 @@ public class GameService {
             moveToNextTurn(room);
 
             // 다음 턴의 현재인원 받아옴
-            PlayerDto currentSpeaker = getCurrentSpeaker(room);
-            eventData.put("nextSpeakerId", currentSpeaker.getPlayerId());
+            int speakerSeat = getCurrentSpeakerSeat(room);
+            eventData.put("nextSpeakerId", room.getPlayers().getPlayerId(speakerSeat));
 
             gameSseService.sendRoomEvent(room.getRoomId(), "vote-result", eventData);
         } else {
             gameSseService.sendRoomEvent(room.getRoomId(), "vote-result", eventData);
         }
         log.info("투표 결과 처리 완료: roomId={}, eventData={}", room.getRoomId(), eventData);
-        votes.remove(room.getRoomId());
+        room.clearVotes();
     }
 
     /**
      * 퍼즐 획득 성공 처리
      * @param room 방 정보
-     * @param agreeCount 찬성표 개수
-     * @param disagreeCount 반대표 개수
-     * @return sse 이벤트 데이터
+     * @param eventData 찬성 / 반대 수가 담긴 sse 이벤트 데이터, 결과를 추가로 채움
      */
-    private Map<String, Object> handlePuzzleAcquired(GameRoomDto room, int agreeCount, int disagreeCount) {
-        PlayerDto currentSpeaker = getCurrentSpeaker(room);
-        currentSpeaker.setCollectedPuzzlePieces(currentSpeaker.getCollectedPuzzlePieces()+1);
+    private void handlePuzzleAcquired(GameRoomDto room, Map<String, Object> eventData) {
+        PlayerSeats players = room.getPlayers();
+        int speakerSeat = getCurrentSpeakerSeat(room);
+        players.setPuzzlePieces(speakerSeat, players.getPuzzlePieces(speakerSeat) + 1);
         room.setCurrentPuzzlePieces(room.getCurrentPuzzlePieces() + 1);
+        gameRoomService.recordStateChange(room, StateDeltaType.PUZZLE_PIECE_GAINED, Map.of(
+                "playerId", players.getPlayerId(speakerSeat),
+                "playerPieces", players.getPuzzlePieces(speakerSeat),
+                "roomPieces", room.getCurrentPuzzlePieces()
+        ));
 
         // 퍼즐 획득 방식 추가(재투표 여부)
         boolean hasReVoted = room.isHasReVoted();
         room.setHasReVoted(false);
+        eventData.put("hasReVoted", hasReVoted); // 재투표 여부
 
         if(room.getCurrentPuzzlePieces() >= room.getTotalPuzzlePieces()){
             // 게임 완료 처리
             List<Map<String, Object>> rankingData = completeGameAndRankPlayers(room);
             // 방 상태 초기화
             resetRoomAfterCompletion(room);
-            return Map.of(
-                    "result", "game-completed",
-                    "agreeCount", agreeCount,
-                    "disagreeCount", disagreeCount,
-                    "rankingData", rankingData,
-                    "hasReVoted", hasReVoted // 재투표 여부
-
-            );
+            eventData.put("result", "game-completed");
+            eventData.put("rankingData", rankingData);
         } else {
-            return Map.of(
-                    "result", "puzzle-acquired-next-turn",
-                    "agreeCount", agreeCount,
-                    "disagreeCount", disagreeCount,
-                     "hasReVoted", hasReVoted // 재투표 여부
-            );
+            eventData.put("result", "puzzle-acquired-next-turn");
         }
     }
 
@@ -445,57 +494,56 @@ public class GameService {
     /**
      * 퍼즐 획득 실패 처리
      * @param room 방정보
-     * @param agreeCount 찬성표 개수
-     * @param disagreeCount 반대표 개수
-     * @param roomVotes 투표 결과
-     * @return sse 이벤트 데이터
+     * @param voteBoard 투표판
+     * @param eventData 찬성 / 반대 수가 담긴 sse 이벤트 데이터, 결과를 추가로 채움
      */
-    private Map<String, Object> handlePuzzleFailed(GameRoomDto room, int agreeCount, int disagreeCount, Map<Long, String> roomVotes) {
-        List<String> disagreePlayers = roomVotes.entrySet().stream()
-                .filter(entry -> entry.getValue().equals("disagree"))
-                .map(entry -> room.getPlayers().get(entry.getKey()).getPlayerInfo().getName())
-                .toList();
-
+    private void handlePuzzleFailed(GameRoomDto room, VoteBoard voteBoard, Map<String, Object> eventData) {
         if(!room.isHasReVoted()){
             room.setHasReVoted(true);
-            return Map.of(
-                    "result", "re-vote",
-                    "agreeCount", agreeCount,
-                    "disagreeCount", disagreeCount,
-                    "disagreePlayers", disagreePlayers
-            );
+            eventData.put("result", "re-vote");
+            eventData.put("disagreePlayers", disagreePlayerNames(room, voteBoard));
         } else {
             // 퍼즐 획득 실패 및 다음 턴으로 이동
             room.setHasReVoted(false);
-            return Map.of(
-                    "result", "puzzle-failed-next-turn",
-                    "agreeCount", agreeCount,
-                    "disagreeCount", disagreeCount
-            );
+            eventData.put("result", "puzzle-failed-next-turn");
+        }
+    }
+
+    /**
+     * 반대표를 던진 플레이어 이름 (자리 순)
+     */
+    private List<String> disagreePlayerNames(GameRoomDto room, VoteBoard voteBoard) {
+        List<String> names = new ArrayList<>(voteBoard.getDisagreeCount());
+        PlayerSeats players = room.getPlayers();
+        for (int seat = 0; seat < voteBoard.size(); seat++) {
+            if (voteBoard.isDisagree(seat) && players.isOccupied(seat)) {
+                names.add(players.getName(seat));
+            }
         }
+        return names;
     }
 
     /**
-     * 현재 발화 중인 플레이어를 반환
-     * 방의 플레이어 목록에서 `isSpeaking` 상태가 true인 플레이어를 검색하여 반환
+     * 현재 발화 중인 플레이어의 자리를 반환
+     * 방이 들고 있는 발화자 자리를 그대로 반환
      * 만약 현재 발화자가 없을 경우 예외를 발생
      *
      * @param room  발화자를 검색할 방 정보 (GameRoomDto)
-     * @return 현재 발화 중인 플레이어 (PlayerDto)
+     * @return 현재 발화 중인 플레이어의 자리 번호
      * @throws IllegalStateException 현재 발화자가 없을 경우 발생
      */
-    private PlayerDto getCurrentSpeaker(GameRoomDto room) {
-        return room.getPlayers().values().stream()
-                .filter(PlayerDto::isSpeaking)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("현재 발화자를 찾을 수 없습니다."));
+    private int getCurrentSpeakerSeat(GameRoomDto room) {
+        int seat = room.getCurrentSpeakerSeat();
+        if (seat == PlayerSeats.NO_SEAT || !room.getPlayers().isOccupied(seat)) {
+            throw new IllegalStateException("현재 발화자를 찾을 수 없습니다.");
+        }
+        return seat;
     }
 
 
     /**
      * 다음 턴으로 이동. 새로운 발화자를 설정하고 및 방 현재 퍼즐 갯수 증가
      * @param room 다음 턴으로 진행할 방 정보 (GameRoomDto)
-     * @return 다음 발화해야하는 플레이어 (PlayerDto)
      */
     private void moveToNextTurn(GameRoomDto room){
         // 현재 턴 증가 (순환)
@@ -503,26 +551,26 @@ public class GameService {
         room.setCurrentTurn(nextTurn);
         room.setCurrentPhase(GamePhase.DISCUSSION);
 
-        // 기존 발화자의 상태를 초기화
-        room.getPlayers().values().stream()
-                .filter(PlayerDto::isSpeaking)
-                .findFirst()
-                .ifPresent(player -> player.setSpeaking(false));
-
-        // 새로운 발화자 설정 및 반환
-        PlayerDto nextSpeaker = room.getPlayers().values().stream()
-                .filter(player -> player.getSequenceNumber() == nextTurn)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("다음 발화자를찾을 수 없습니다."));
+        // 새로운 발화자 조회
+        int nextSeat = room.getSeatAt(nextTurn);
+        if (nextSeat == PlayerSeats.NO_SEAT) {
+            throw new IllegalStateException("다음 발화자를찾을 수 없습니다.");
+        }
+        Long nextSpeakerId = room.getPlayers().getPlayerId(nextSeat);
 
         room.setPictureCardAssigned(false);
         room.setTextCardAssigned(false);
 
-        // 다음 발화자를 발화 상태로 설정
-        nextSpeaker.setSpeaking(true);
+        // 기존 발화자의 상태를 초기화하고 다음 발화자를 발화 상태로 설정
+        room.changeSpeaker(nextSeat);
+        gameRoomService.recordStateChange(room, StateDeltaType.TURN_ADVANCED, Map.of(
+                "turn", nextTurn,
+                "speakerId", nextSpeakerId,
+                "phase", GamePhase.DISCUSSION
+        ));
 
         log.info("다음 턴으로 이동: roomId={}, nextSpeakerId={}, currentTurn={}",
-                room.getRoomId(), nextSpeaker.getPlayerId(), nextTurn);
+                room.getRoomId(), nextSpeakerId, nextTurn);
 
     }
 
@@ -532,19 +580,24 @@ public class GameService {
      */
     private List<Map<String, Object>> completeGameAndRankPlayers(GameRoomDto room){
         // 플레이어 랭킹 계산
-        List<PlayerDto> rankedPlayers = room.getPlayers().values().stream()
-                .sorted(Comparator.comparingInt(PlayerDto::getCollectedPuzzlePieces).reversed()
-                        .thenComparingInt(PlayerDto::getSequenceNumber))
-                .toList();
+        PlayerSeats players = room.getPlayers();
+        List<Integer> rankedSeats = new ArrayList<>(players.size());
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.isOccupied(seat)) {
+                rankedSeats.add(seat);
+            }
+        }
+        rankedSeats.sort(Comparator.<Integer>comparingInt(players::getPuzzlePieces).reversed()
+                .thenComparingInt(players::getSequenceNumber));
 
         // 랭킹 결과 데이터 생성
-        return rankedPlayers.stream()
-                .map(player -> {
+        return rankedSeats.stream()
+                .map(seat -> {
                     Map<String, Object> map = new HashMap<>();
-                    map.put("playerId", player.getPlayerId());
-                    map.put("avatarId", player.getAvatarId());
-                    map.put("playerName", player.getPlayerInfo().getName());
-                    map.put("puzzlePieces", player.getCollectedPuzzlePieces());
+                    map.put("playerId", players.getPlayerId(seat));
+                    map.put("avatarId", players.getAvatarId(seat));
+                    map.put("playerName", players.getName(seat));
+                    map.put("puzzlePieces", players.getPuzzlePieces(seat));
                     return map;
                 })
                 .toList();
@@ -569,26 +622,18 @@ public class GameService {
 
 
         // 플레이어 상태 초기화
-        room.getPlayers().values().forEach(p -> {
-            p.setReady(false);
-            resetPlayerState(p);
-        });
+        room.clearTurnOrder();
+        PlayerSeats players = room.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.setReady(seat, false);
+            players.resetGameState(seat);
+        }
 
         // 투표 데이터 초기화
-        votes.remove(room.getRoomId());
+        room.clearVotes();
+        gameRoomService.recordStateChange(room, StateDeltaType.GAME_RESET, Map.of("roomStatus", RoomStatus.ENDED));
 
         log.info("방 상태 초기화 완료: roomId={}", room.getRoomId());
     }
 
-    /**
-     * 게임 진행중 플레이어 상태 초기화
-     * @param player
-     */
-    private void resetPlayerState(PlayerDto player) {
-        player.setCollectedPuzzlePieces(0);
-        player.setSequenceNumber(0);
-        player.setSpeaking(false);
-        player.setUsageTime(0); // 사용 시간 초기화
-    }
-
 }
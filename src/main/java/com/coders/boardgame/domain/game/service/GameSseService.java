@@ -1,17 +1,34 @@
 package com.coders.boardgame.domain.game.service;
 
+import com.coders.boardgame.domain.game.cluster.RoomOwnership;
+import com.coders.boardgame.domain.game.component.GameMetrics;
 import com.coders.boardgame.domain.game.dto.ConnectionResult;
 import com.coders.boardgame.domain.game.event.PlayerDisconnectedEvent;
 import com.coders.boardgame.domain.game.event.PlayerReadyCanceledEvent;
+import com.coders.boardgame.domain.game.event.RoomSignalReceivedEvent;
+import com.coders.boardgame.domain.game.sse.RoomEvent;
+import com.coders.boardgame.domain.game.sse.RoomEventBus;
+import com.coders.boardgame.domain.game.sse.RoomEventLog;
+import com.coders.boardgame.domain.game.sse.RoomSignal;
+import com.coders.boardgame.domain.game.sse.SseDeliveryLatencyRecorder;
+import com.coders.boardgame.domain.game.sse.SseConnection;
+import com.coders.boardgame.domain.game.sse.SseDispatcher;
+import com.coders.boardgame.domain.game.sse.SseEventFrame;
+import com.coders.boardgame.domain.game.sse.SseFrameEncoder;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
 
 @Slf4j
 @Service
@@ -19,31 +36,105 @@ import java.util.concurrent.ConcurrentHashMap;
 public class GameSseService {
 
     private static final Long SSE_SESSION_TIMEOUT = 60 * 120 * 1000L;
-    private final Map<String, Map<Long, SseEmitter>> sseEmitters = new ConcurrentHashMap<>();
+    private static final int RESUMED_EVENT_ID_SHIFT = 10; // 복원한 방의 이벤트 id = 복원 시각(ms) << 10
+    private final Map<String, Map<Long, SseConnection>> sseConnections = new ConcurrentHashMap<>();
+    private final Map<String, RoomEventLog> eventLogs = new ConcurrentHashMap<>(); // 방별 재전송 버퍼
     private final ApplicationEventPublisher eventPublisher; // 이벤트 발행기 주입
+    private final SseFrameEncoder sseFrameEncoder; // 이벤트 프레임 인코더
+    private final SseDispatcher sseDispatcher; // 비동기 전송 디스패처
+    private final GameMetrics gameMetrics; // 재연결 / 전송 실패 / fan-out 지표
+    private final SseDeliveryLatencyRecorder deliveryLatencyRecorder; // 발행 -> flush 지연 히스토그램
+    private final RoomEventBus roomEventBus; // 노드 간 방 이벤트 pub/sub
+    private final RoomOwnership roomOwnership; // 방 담당 노드 판단
+
+    @Value("${game.sse.replay-buffer-size:128}")
+    private int replayBufferSize; // 재연결 시 다시 보낼 수 있는 방별 최근 이벤트 수
+
+    @Value("${game.sse.reconnect.retry-base-ms:1000}")
+    private long retryBaseMs; // 연결마다 보내는 retry: 최소값
+
+    @Value("${game.sse.reconnect.retry-jitter-ms:4000}")
+    private long retryJitterMs; // retry: 에 더하는 임의 시간 (연결이 한꺼번에 끊겨도 재연결 시각이 흩어지도록)
+
+    // 전송 큐에서 발생한 실패를 기존 연결 해제 흐름으로 연결
+    private final SseConnection.Listener connectionListener = new SseConnection.Listener() {
+        @Override
+        public void onSendFailure(SseConnection connection, SseEventFrame frame, Exception e) {
+            log.debug("플레이어 이벤트 전송 실패: roomId={}, playerId={}, eventName={}, error={}",
+                    connection.getRoomId(), connection.getPlayerId(),
+                    frame != null ? frame.getEventName() : null, e.getMessage());
+            // 쓰기 실패는 연결이 끊긴 것으로 보고 비의도적 연결 해제로 처리
+            gameMetrics.sendFailed("send-failure");
+            handleDisconnection(connection.getRoomId(), "send-failure", connection.getPlayerId(), true, connection.getEmitter());
+        }
+
+        @Override
+        public void onSlowConsumer(SseConnection connection) {
+            gameMetrics.sendFailed("slow-consumer");
+            handleDisconnection(connection.getRoomId(), "slow-consumer", connection.getPlayerId(), true, connection.getEmitter());
+        }
+
+        @Override
+        public void onFlushed(SseConnection connection, SseEventFrame frame, long flushedNanos) {
+            deliveryLatencyRecorder.record(connection, frame, flushedNanos);
+        }
+    };
 
 
+    /**
+     * 이 노드 inbox 구독 (다른 노드에 연결된 플레이어의 연결 / 끊김 알림)
+     * 알림은 bus 스레드에서 오므로 이벤트로 넘겨 비동기로 처리
+     */
+    @PostConstruct
+    public void subscribeNodeSignals() {
+        roomEventBus.subscribeNode(roomOwnership.getLocalMember(),
+                signal -> eventPublisher.publishEvent(new RoomSignalReceivedEvent(this, signal)));
+    }
+
     /**
      * SSE 연결 추가
+     * Last-Event-ID가 있고 재전송 버퍼 범위 안이면 놓친 이벤트만 다시 보냄
      * @param roomId 방 ID
      * @param playerId 플레이어 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (Last-Event-ID 헤더), 없으면 null
      * @return ConnectionResult
      */
-    public ConnectionResult connectToRoom(String roomId, Long playerId) {
+    public ConnectionResult connectToRoom(String roomId, Long playerId, String lastEventId) {
 
-        Map<Long, SseEmitter> roomEmitters = sseEmitters.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+        Map<Long, SseConnection> roomConnections = sseConnections.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>());
+        RoomEventLog eventLog = eventLogs.computeIfAbsent(roomId, k -> new RoomEventLog(replayBufferSize));
 
+        SseEmitter emitter = sseDispatcher.newEmitter(SSE_SESSION_TIMEOUT); // 타임아웃 2시간
         boolean isReconnecting = false;
-        SseEmitter existingEmitter = roomEmitters.get(playerId);
-        if (existingEmitter != null) {
-            // 기존 연결이 존재하면 제거하고 재연결 처리
-            existingEmitter.complete();
-            isReconnecting = true;
-            log.info("플레이어 재연결: roomId={}, playerId={}", roomId, playerId);
-        }
+        boolean isResumed;
 
-        SseEmitter emitter = new SseEmitter(SSE_SESSION_TIMEOUT); // 타임아웃 2시간
-        roomEmitters.put(playerId, emitter);
+        // 연결 등록과 재전송을 이벤트 발행과 같은 락에서 처리해 재전송 이벤트와 새 이벤트의 순서가 섞이지 않게 함
+        synchronized (eventLog) {
+            SseConnection existingConnection = roomConnections.get(playerId);
+            if (existingConnection != null) {
+                // 기존 연결이 존재하면 제거하고 재연결 처리
+                existingConnection.close();
+                existingConnection.getEmitter().complete();
+                isReconnecting = true;
+                gameMetrics.reconnected();
+                log.info("플레이어 재연결: roomId={}, playerId={}", roomId, playerId);
+            }
+
+            SseConnection connection = sseDispatcher.open(roomId, playerId, emitter, connectionListener);
+            // 담당 노드에서는 발행이 버퍼 기록보다 늦게 전달되므로, 이미 버퍼에 있던 이벤트가 실시간으로 다시 오면 버림
+            connection.setReplayedUpTo(eventLog.lastId());
+            roomConnections.put(playerId, connection);
+            roomEventBus.subscribe(roomId, event -> receive(roomId, event));
+            connection.enqueue(sseFrameEncoder.retry(jitteredRetryMs(0)));
+
+            List<RoomEvent> missed = missedEvents(eventLog, lastEventId, playerId);
+            isResumed = missed != null;
+            if (isResumed) {
+                missed.forEach(event -> connection.enqueue(sseFrameEncoder.encode(event)));
+                log.info("놓친 이벤트 재전송: roomId={}, playerId={}, lastEventId={}, count={}",
+                        roomId, playerId, lastEventId, missed.size());
+            }
+        }
 
         // 현재 emitter 인스턴스를 final 변수에 캡쳐
         final SseEmitter currentEmitter = emitter;
@@ -61,32 +152,28 @@ public class GameSseService {
             handleDisconnection(roomId, "error", playerId, true, currentEmitter);
         });
 
-        return new ConnectionResult(emitter, isReconnecting);
+        return new ConnectionResult(emitter, isReconnecting, isResumed);
+    }
+
+    /**
+     * 클라이언트 재연결 대기 시간 (retry:) 계산, 연결마다 임의 시간을 더해 재연결이 한 시점에 몰리지 않게 함
+     * @param minMs 최소 대기 시간 (연결 요청 제한으로 돌려보낼 때 다음 토큰까지 남은 시간)
+     * @return 재연결 대기 시간 (ms)
+     */
+    public long jitteredRetryMs(long minMs) {
+        return Math.max(minMs, retryBaseMs) + ThreadLocalRandom.current().nextLong(retryJitterMs + 1);
     }
 
 
     /**
      * SSE로 방에 있는 전체 인원들한테 event 전송
+     * 이벤트는 한번만 직렬화하고 같은 프레임을 각 연결의 전송 큐에 넣은 뒤 바로 반환
      * @param roomId 방 ID
      * @param eventName 이벤트 이름
      * @param data 이벤트 데이터
      */
     public void sendRoomEvent(String roomId, String eventName, Object data){
-        Map<Long, SseEmitter> roomEmitters = sseEmitters.get(roomId);
-
-        if (roomEmitters != null) {
-            roomEmitters.forEach((playerId, emitter) ->{
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name(eventName)
-                            .data(data));
-                } catch (IOException e){
-                    roomEmitters.remove(playerId);
-                    log.debug("플레이어 이벤트 전송 실패: roomId={}, playerId={}, eventName={}, error={}",
-                            roomId, playerId, eventName, e.getMessage());
-                }
-            });
-        }
+        publish(roomId, eventName, data, null, null, true);
     }
 
     /**
@@ -97,23 +184,7 @@ public class GameSseService {
      * @param excludePlayerId 자신의 playerId
      */
     public void sendRoomEventToOthers(String roomId, String eventName, Object data, Long excludePlayerId){
-        Map<Long, SseEmitter> roomEmitters = sseEmitters.get(roomId);
-
-        if (roomEmitters != null) {
-            roomEmitters.forEach((playerId, emitter) ->{
-                if (!playerId.equals(excludePlayerId)) {
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name(eventName)
-                                .data(data));
-                    } catch (IOException e) {
-                        roomEmitters.remove(playerId);
-                        log.debug("플레이어 이벤트 전송 실패: roomId={}, playerId={}, eventName={}, error={}",
-                                roomId, playerId, eventName, e.getMessage());
-                    }
-                }
-            });
-        }
+        publish(roomId, eventName, data, null, excludePlayerId, true);
     }
 
     /**
@@ -124,30 +195,271 @@ public class GameSseService {
      * @param data 이벤트 데이터
      */
     public void sendToSpecificPlayer(String roomId, Long playerId, String eventName, Object data){
-        Map<Long, SseEmitter> roomEmitters = sseEmitters.get(roomId);
-        if (roomEmitters != null){
-            SseEmitter emitter = roomEmitters.get(playerId);
-            if (emitter != null) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name(eventName)
-                            .data(data));
-                } catch (IOException e){
-                    roomEmitters.remove(playerId);
-                    log.debug("특정 사용자 이벤트 전송 실패: roomId={}, playerId={}, eventName={}, error={}",
-                            roomId, playerId, eventName, e.getMessage());                }
+        publish(roomId, eventName, data, playerId, null, true);
+    }
+
+    /**
+     * 연결 직후 상태 이벤트 전송 (connected, game-connected 등)
+     * 연결 시점의 스냅샷이므로 재전송 버퍼에 기록하지 않음
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param eventName 이벤트 이름
+     * @param data 이벤트 데이터
+     */
+    public void sendConnectionEvent(String roomId, Long playerId, String eventName, Object data){
+        publish(roomId, eventName, data, playerId, null, false);
+    }
+
+    /**
+     * 이벤트 발행
+     * 데이터 직렬화는 받는 인원 수에 관계없이 한번만 수행
+     * 방 topic에 한번 발행하면 이 방의 연결을 가진 노드(자기 자신 포함)가 받아서 자기 연결에 전달
+     * @param roomId 방 id
+     * @param eventName 이벤트 이름
+     * @param data 이벤트 데이터
+     * @param targetPlayerId 특정 플레이어 대상이면 해당 id
+     * @param excludePlayerId 제외할 플레이어 id
+     * @param replayable 재전송 버퍼에 기록할지 여부
+     */
+    private void publish(String roomId, String eventName, Object data, Long targetPlayerId, Long excludePlayerId, boolean replayable) {
+        boolean subscribed = roomEventBus.hasSubscribers(roomId);
+        RoomEventLog eventLog = replayable ? eventLogs.get(roomId) : null;
+        if (!subscribed && eventLog == null) {
+            return;
+        }
+        if (replayable && eventLog == null) {
+            // 다른 노드에만 연결이 있는 방, 이벤트 id는 방 담당 노드에서 발급
+            eventLog = eventLogs.computeIfAbsent(roomId, k -> new RoomEventLog(replayBufferSize));
+        }
+
+        long start = System.nanoTime();
+        String payload = sseFrameEncoder.serialize(data);
+
+        if (eventLog == null) {
+            roomEventBus.publish(roomId, new RoomEvent(null, eventName, payload, targetPlayerId, excludePlayerId));
+        } else {
+            // id 발급과 발행을 같은 락에서 처리해 구독 노드마다 id 순서가 보장되도록 함
+            synchronized (eventLog) {
+                roomEventBus.publish(roomId, eventLog.append(eventName, payload, targetPlayerId, excludePlayerId));
+            }
+        }
+        gameMetrics.recordFanOut(eventName, System.nanoTime() - start);
+    }
+
+    /**
+     * 방 topic에서 받은 이벤트를 이 노드의 연결에 전달
+     * 다른 노드가 발행한 이벤트도 재전송 버퍼에 같은 id로 기록해 이 노드로 재연결해도 이어받을 수 있게 함
+     * @param roomId 방 id
+     * @param event 방 이벤트
+     */
+    private void receive(String roomId, RoomEvent event) {
+        if (event.isRoomClosed()) {
+            removeEmitters(roomId);
+            return;
+        }
+        if (event.id() == null) {
+            deliver(roomId, event);
+            return;
+        }
+
+        RoomEventLog eventLog = eventLogs.computeIfAbsent(roomId, k -> new RoomEventLog(replayBufferSize));
+        synchronized (eventLog) {
+            eventLog.record(event);
+            deliver(roomId, event);
+        }
+    }
+
+    /**
+     * 이 노드의 SSE 연결에 이벤트 전달
+     * @param roomId 방 id
+     * @param event 방 이벤트
+     */
+    private void deliver(String roomId, RoomEvent event) {
+        Map<Long, SseConnection> roomConnections = sseConnections.get(roomId);
+        if (roomConnections != null && !roomConnections.isEmpty()) {
+            int fanOut = event.targetPlayerId() != null ? 1 : roomConnections.size();
+            SseEventFrame frame = sseFrameEncoder.encode(event, fanOut);
+            if (event.targetPlayerId() != null) {
+                SseConnection connection = roomConnections.get(event.targetPlayerId());
+                if (connection != null && !isReplayed(connection, event)) {
+                    connection.enqueue(frame);
+                }
+            } else {
+                roomConnections.forEach((playerId, connection) -> {
+                    if (event.isVisibleTo(playerId) && !isReplayed(connection, event)) {
+                        connection.enqueue(frame);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 연결할 때 재전송 버퍼에 이미 있던 이벤트인지 (재전송했거나 연결 전 이벤트)
+     */
+    private static boolean isReplayed(SseConnection connection, RoomEvent event) {
+        return event.id() != null && event.id() <= connection.getReplayedUpTo();
+    }
+
+    /**
+     * 열린 모든 연결에 heartbeat 전송
+     * 직전 heartbeat 이후 쓰기에 성공한 연결은 onAlive로 알려 ping 요청 없이도 생존으로 처리
+     * @param aliveSince 이 시각 이후 쓰기에 성공한 연결을 살아있는 것으로 봄
+     * @param onAlive 살아있는 연결의 (roomId, playerId) 콜백
+     */
+    public void sendHeartbeats(long aliveSince, BiConsumer<String, Long> onAlive) {
+        SseEventFrame heartbeat = sseFrameEncoder.heartbeat();
+        sseConnections.forEach((roomId, roomConnections) -> roomConnections.forEach((playerId, connection) -> {
+            if (connection.getLastWriteTime() >= aliveSince) {
+                onAlive.accept(roomId, playerId);
             }
+            connection.sendHeartbeat(heartbeat);
+        }));
+    }
+
+    /**
+     * 방에 열려있는 SSE 연결이 있는지 확인
+     * @param roomId 방 id
+     */
+    public boolean hasConnections(String roomId) {
+        Map<Long, SseConnection> roomConnections = sseConnections.get(roomId);
+        return roomConnections != null && !roomConnections.isEmpty();
+    }
+
+    /**
+     * 이 노드에 열려있는 모든 연결 순회
+     * @param action (roomId, playerId) 콜백
+     */
+    public void forEachConnection(BiConsumer<String, Long> action) {
+        sseConnections.forEach((roomId, roomConnections) -> roomConnections.keySet()
+                .forEach(playerId -> action.accept(roomId, playerId)));
+    }
+
+    /**
+     * 이 노드에 있는 플레이어 연결에만 이벤트 전송 (방 topic을 거치지 않고 재전송 버퍼에도 남기지 않음)
+     * 종료 준비 알림처럼 연결을 가진 노드에만 해당하는 이벤트용
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param eventName 이벤트 이름
+     * @param data 이벤트 데이터
+     */
+    public void sendLocalEvent(String roomId, Long playerId, String eventName, Object data) {
+        deliver(roomId, new RoomEvent(null, eventName, sseFrameEncoder.serialize(data), playerId, null));
+    }
+
+    /**
+     * 열려있는 SSE 연결 수 (metrics)
+     */
+    public int countConnections() {
+        int count = 0;
+        for (Map<Long, SseConnection> roomConnections : sseConnections.values()) {
+            count += roomConnections.size();
         }
+        return count;
     }
+
     /**
-     * SSE 연결 모두 제거
+     * Last-Event-ID 이후 플레이어가 받아야 했던 이벤트 조회
+     * @return 놓친 이벤트 목록, 재전송이 불가능하면 null
+     */
+    private List<RoomEvent> missedEvents(RoomEventLog eventLog, String lastEventId, Long playerId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+
+        long parsedId;
+        try {
+            parsedId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Last-Event-ID: {}", lastEventId);
+            return null;
+        }
+
+        List<RoomEvent> missed = eventLog.since(parsedId);
+        if (missed == null) {
+            return null;
+        }
+        return missed.stream()
+                .filter(event -> event.isVisibleTo(playerId))
+                .toList();
+    }
+
+    /**
+     * 복원한 방(재시작 / 다른 노드에서 가져옴)의 이벤트 id를 이전에 발급했을 수 있는 id보다 크게 시작
+     * 복원 시각(ms)을 위쪽 비트에 두므로 복원할 때마다 이전 id보다 커짐
+     * 이전 id로 재연결한 클라이언트는 놓친 이벤트 대신 game-connected / room-connected 로 전체 상태를 받음
+     * @param roomId 방 id
+     */
+    public void resumeRoom(String roomId) {
+        RoomEventLog eventLog = eventLogs.computeIfAbsent(roomId, k -> new RoomEventLog(replayBufferSize));
+        eventLog.skipTo(System.currentTimeMillis() << RESUMED_EVENT_ID_SHIFT);
+    }
+
+    /**
+     * 방 삭제 시 모든 노드의 SSE 연결 제거
+     * @param roomId 방 id
+     */
+    public void closeRoom(String roomId) {
+        removeEmitters(roomId);
+        roomEventBus.publish(roomId, RoomEvent.roomClosed());
+    }
+
+    /**
+     * 다른 노드가 담당하는 방에 연결된 플레이어를 담당 노드에 알림
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param isReconnecting 재연결 여부
+     * @param isResumed 놓친 이벤트를 재전송했는지 여부
+     * @param sinceVersion 클라이언트가 마지막으로 받은 방 상태 버전 (없으면 null)
+     */
+    public void notifyConnected(String roomId, Long playerId, boolean isReconnecting, boolean isResumed, Long sinceVersion) {
+        roomEventBus.sendToNode(roomOwnership.ownerOf(roomId),
+                RoomSignal.connected(roomId, playerId, roomOwnership.getLocalMember(), isReconnecting, isResumed, sinceVersion));
+    }
+
+    /**
+     * 비의도적 연결 끊김 알림, 방 담당 노드가 다른 노드면 그 노드에서 처리
+     */
+    private void notifyDisconnected(String roomId, Long playerId) {
+        if (roomOwnership.isLocal(roomId)) {
+            eventPublisher.publishEvent(new PlayerDisconnectedEvent(this, roomId, playerId, true));
+            return;
+        }
+        roomEventBus.sendToNode(roomOwnership.ownerOf(roomId),
+                RoomSignal.disconnected(roomId, playerId, roomOwnership.getLocalMember()));
+    }
+
+    /**
+     * 이 노드에 방 연결이 하나도 남지 않았으면 방 topic 구독 해제
+     */
+    private void unsubscribeIfIdle(String roomId) {
+        RoomEventLog eventLog = eventLogs.get(roomId);
+        if (eventLog == null) {
+            roomEventBus.unsubscribe(roomId);
+            return;
+        }
+        // 연결 등록과 같은 락에서 확인해 새 연결의 구독을 해제하지 않도록 함
+        synchronized (eventLog) {
+            if (!hasConnections(roomId)) {
+                roomEventBus.unsubscribe(roomId);
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 SSE 연결 모두 제거
      * @param roomId
      */
     public void removeEmitters(String roomId) {
-        Map<Long, SseEmitter> roomEmitters = sseEmitters.remove(roomId);
-        if (roomEmitters != null) {
-            roomEmitters.values().forEach(SseEmitter::complete);
+        roomEventBus.unsubscribe(roomId);
+        Map<Long, SseConnection> roomConnections = sseConnections.remove(roomId);
+        if (roomConnections != null) {
+            roomConnections.values().forEach(connection -> {
+                connection.close();
+                connection.getEmitter().complete();
+            });
         }
+        eventLogs.remove(roomId);
     }
 
     /**
@@ -171,29 +483,33 @@ public class GameSseService {
      */
     private void handleDisconnection(String roomId, String reason, Long playerId, boolean isUnexpected, SseEmitter emitter) {
 
-        Map<Long, SseEmitter> roomEmitters = sseEmitters.get(roomId);
-        if (roomEmitters == null) {
+        Map<Long, SseConnection> roomConnections = sseConnections.get(roomId);
+        if (roomConnections == null) {
             return;
         }
 
         // emitter가 전달되었다면, 현재 등록된 emitter와 비교해서 다르면 그냥 종료
         if (emitter != null) {
-            SseEmitter currentEmitter = roomEmitters.get(playerId);
-            if (currentEmitter != emitter) {
+            SseConnection currentConnection = roomConnections.get(playerId);
+            if (currentConnection == null || currentConnection.getEmitter() != emitter) {
                 return;
             }
         }
 
-        SseEmitter removedEmitter = roomEmitters.remove(playerId);
-        if (removedEmitter != null) {
-            removedEmitter.complete();
+        SseConnection removedConnection = roomConnections.remove(playerId);
+        if (removedConnection != null) {
+            removedConnection.close();
+            removedConnection.getEmitter().complete();
+        }
+        if (roomConnections.isEmpty()) {
+            unsubscribeIfIdle(roomId);
         }
 
         log.info("SSE 연결 해제 {}: roomId = {}, playerId = {}", reason, roomId, playerId);
 
         if (isUnexpected) {
-            // 비의도적인 연결 끊김 시 이벤트 발행
-            eventPublisher.publishEvent(new PlayerDisconnectedEvent(this, roomId, playerId, true));
+            // 비의도적인 연결 끊김 시 이벤트 발행 (담당 노드가 다르면 담당 노드로 알림)
+            notifyDisconnected(roomId, playerId);
         }
     }
 }
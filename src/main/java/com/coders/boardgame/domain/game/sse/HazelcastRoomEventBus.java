@@ -0,0 +1,126 @@
+package com.coders.boardgame.domain.game.sse;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.topic.ITopic;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 내장 Hazelcast topic으로 노드 간에 전달하는 방 이벤트 pub/sub (game.cluster.store=hazelcast)
+ * 방마다 topic 하나(room-events.{roomId})를 두고, 한 노드가 발행한 메시지는 발행 순서대로 구독 노드에 전달됨
+ * 전달은 비동기이므로 방이 삭제되면 구독 노드가 ROOM_CLOSED 를 받은 뒤 각자 listener를 제거하고,
+ * 마지막으로 제거한 노드(구독 노드가 없으면 발행한 노드)가 topic을 정리
+ */
+@Slf4j
+public class HazelcastRoomEventBus implements RoomEventBus {
+
+    private static final String ROOM_TOPIC_PREFIX = "room-events.";
+    private static final String NODE_TOPIC_PREFIX = "room-signals.";
+    private static final String SUBSCRIBER_MAP_NAME = "room-event-subscribers";
+
+    private final HazelcastInstance hazelcastInstance;
+    private final IMap<String, Integer> subscriberCounts; // 방 id -> 구독 중인 노드 수
+    private final Map<String, UUID> subscriptions = new ConcurrentHashMap<>(); // 방 id -> listener 등록 id
+
+    public HazelcastRoomEventBus(HazelcastInstance hazelcastInstance) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.subscriberCounts = hazelcastInstance.getMap(SUBSCRIBER_MAP_NAME);
+    }
+
+    @Override
+    public void publish(String roomId, RoomEvent event) {
+        roomTopic(roomId).publish(event);
+        if (event.isRoomClosed() && !subscriberCounts.containsKey(roomId)) {
+            roomTopic(roomId).destroy(); // 받을 노드가 없음
+        }
+    }
+
+    @Override
+    public void subscribe(String roomId, Consumer<RoomEvent> listener) {
+        subscriptions.computeIfAbsent(roomId, id -> {
+            addSubscriber(id);
+            return roomTopic(id).addMessageListener(message -> {
+                RoomEvent event = message.getMessageObject();
+                if (event.isRoomClosed()) {
+                    // 이후 listener가 unsubscribe 해도 중복으로 빼지 않도록 먼저 제거
+                    release(id, subscriptions.get(id), true);
+                }
+                listener.accept(event);
+            });
+        });
+    }
+
+    @Override
+    public void unsubscribe(String roomId) {
+        release(roomId, subscriptions.get(roomId), false);
+    }
+
+    @Override
+    public boolean hasSubscribers(String roomId) {
+        return true; // 다른 노드의 구독 여부는 알 수 없으므로 항상 발행
+    }
+
+    @Override
+    public void sendToNode(String nodeId, RoomSignal signal) {
+        hazelcastInstance.<RoomSignal>getTopic(NODE_TOPIC_PREFIX + nodeId).publish(signal);
+    }
+
+    @Override
+    public void subscribeNode(String nodeId, Consumer<RoomSignal> listener) {
+        hazelcastInstance.<RoomSignal>getTopic(NODE_TOPIC_PREFIX + nodeId)
+                .addMessageListener(message -> listener.accept(message.getMessageObject()));
+        log.info("노드 inbox 구독: nodeId={}", nodeId);
+    }
+
+    /**
+     * 이 노드의 listener 제거 후 구독 노드 수 감소
+     * @param roomClosed 방이 삭제되어 제거하는 경우 (마지막 구독 노드면 topic 정리)
+     */
+    private void release(String roomId, UUID registration, boolean roomClosed) {
+        if (registration == null || !subscriptions.remove(roomId, registration)) {
+            return; // 이미 제거됨
+        }
+        ITopic<RoomEvent> topic = roomTopic(roomId);
+        topic.removeMessageListener(registration);
+        if (removeSubscriber(roomId) && roomClosed) {
+            topic.destroy();
+        }
+    }
+
+    private void addSubscriber(String roomId) {
+        subscriberCounts.lock(roomId);
+        try {
+            Integer count = subscriberCounts.get(roomId);
+            subscriberCounts.set(roomId, count == null ? 1 : count + 1);
+        } finally {
+            subscriberCounts.unlock(roomId);
+        }
+    }
+
+    /**
+     * @return 마지막 구독 노드였는지
+     */
+    private boolean removeSubscriber(String roomId) {
+        subscriberCounts.lock(roomId);
+        try {
+            Integer count = subscriberCounts.get(roomId);
+            if (count == null || count <= 1) {
+                subscriberCounts.delete(roomId);
+                return true;
+            }
+            subscriberCounts.set(roomId, count - 1);
+            return false;
+        } finally {
+            subscriberCounts.unlock(roomId);
+        }
+    }
+
+    private ITopic<RoomEvent> roomTopic(String roomId) {
+        return hazelcastInstance.getTopic(ROOM_TOPIC_PREFIX + roomId);
+    }
+}
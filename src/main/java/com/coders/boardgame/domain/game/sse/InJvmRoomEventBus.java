@@ -0,0 +1,51 @@
+package com.coders.boardgame.domain.game.sse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 전달하는 방 이벤트 pub/sub (game.cluster.store=memory, 기본값)
+ * 발행한 스레드에서 바로 listener를 호출하므로 노드 하나일 때는 직접 전달하는 것과 같음
+ */
+public class InJvmRoomEventBus implements RoomEventBus {
+
+    private final Map<String, Consumer<RoomEvent>> roomListeners = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<RoomSignal>> nodeListeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String roomId, RoomEvent event) {
+        Consumer<RoomEvent> listener = roomListeners.get(roomId);
+        if (listener != null) {
+            listener.accept(event);
+        }
+    }
+
+    @Override
+    public void subscribe(String roomId, Consumer<RoomEvent> listener) {
+        roomListeners.putIfAbsent(roomId, listener);
+    }
+
+    @Override
+    public void unsubscribe(String roomId) {
+        roomListeners.remove(roomId);
+    }
+
+    @Override
+    public boolean hasSubscribers(String roomId) {
+        return roomListeners.containsKey(roomId);
+    }
+
+    @Override
+    public void sendToNode(String nodeId, RoomSignal signal) {
+        Consumer<RoomSignal> listener = nodeListeners.get(nodeId);
+        if (listener != null) {
+            listener.accept(signal);
+        }
+    }
+
+    @Override
+    public void subscribeNode(String nodeId, Consumer<RoomSignal> listener) {
+        nodeListeners.put(nodeId, listener);
+    }
+}
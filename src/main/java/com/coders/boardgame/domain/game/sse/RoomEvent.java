@@ -0,0 +1,33 @@
+package com.coders.boardgame.domain.game.sse;
+
+import java.io.Serializable;
+
+/**
+ * 방으로 발행되는 이벤트
+ * @param id 이벤트 id (재전송 버퍼에 기록되지 않는 이벤트는 null)
+ * @param eventName 이벤트 이름
+ * @param data 직렬화가 끝난 데이터
+ * @param targetPlayerId 특정 플레이어 대상 이벤트면 해당 id, 아니면 null
+ * @param excludedPlayerId 받지 않을 플레이어 id, 없으면 null
+ */
+public record RoomEvent(Long id, String eventName, String data, Long targetPlayerId, Long excludedPlayerId)
+        implements Serializable {
+
+    // 방 삭제 알림 (노드 간에만 쓰이고 클라이언트에게는 보내지 않음)
+    public static final String ROOM_CLOSED = "room-closed";
+
+    public static RoomEvent roomClosed() {
+        return new RoomEvent(null, ROOM_CLOSED, "", null, null);
+    }
+
+    public boolean isRoomClosed() {
+        return ROOM_CLOSED.equals(eventName);
+    }
+
+    public boolean isVisibleTo(Long playerId) {
+        if (targetPlayerId != null) {
+            return targetPlayerId.equals(playerId);
+        }
+        return excludedPlayerId == null || !excludedPlayerId.equals(playerId);
+    }
+}
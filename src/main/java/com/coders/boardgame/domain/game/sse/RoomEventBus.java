@@ -0,0 +1,52 @@
+package com.coders.boardgame.domain.game.sse;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 방 이벤트 pub/sub
+ * 방 담당 노드가 방 topic에 이벤트를 한번 발행하면, 그 방의 SSE 연결을 가진 노드만 구독하고 있다가 자기 연결에 전달
+ * 연결을 가진 노드는 노드별 inbox로 담당 노드에 연결 / 끊김을 알림
+ * 구현: InJvmRoomEventBus (단일 노드 / 테스트), HazelcastRoomEventBus (game.cluster.store=hazelcast)
+ */
+public interface RoomEventBus {
+
+    /**
+     * 방 topic에 이벤트 발행
+     * @param roomId 방 id
+     * @param event 방 이벤트
+     */
+    void publish(String roomId, RoomEvent event);
+
+    /**
+     * 이 노드에서 방 topic 구독 (이미 구독중이면 무시)
+     * @param roomId 방 id
+     * @param listener 이벤트를 받을 listener
+     */
+    void subscribe(String roomId, Consumer<RoomEvent> listener);
+
+    /**
+     * 이 노드의 방 topic 구독 해제
+     * @param roomId 방 id
+     */
+    void unsubscribe(String roomId);
+
+    /**
+     * 방 topic을 구독하는 노드가 있을 수 있는지 (false면 발행을 건너뜀)
+     * @param roomId 방 id
+     */
+    boolean hasSubscribers(String roomId);
+
+    /**
+     * 노드 inbox로 연결 상태 알림 전송
+     * @param nodeId 받을 노드 이름
+     * @param signal 알림
+     */
+    void sendToNode(String nodeId, RoomSignal signal);
+
+    /**
+     * 이 노드의 inbox 구독
+     * @param nodeId 이 노드 이름
+     * @param listener 알림을 받을 listener
+     */
+    void subscribeNode(String nodeId, Consumer<RoomSignal> listener);
+}
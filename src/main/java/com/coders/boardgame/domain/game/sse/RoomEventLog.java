@@ -0,0 +1,94 @@
+package com.coders.boardgame.domain.game.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방 단위 최근 이벤트 링 버퍼
+ * 이벤트마다 단조 증가하는 id를 붙이고, 재연결 시 Last-Event-ID 이후 이벤트만 다시 보낼 수 있도록 보관
+ * 호출자는 id 발급과 전송 순서를 맞추기 위해 인스턴스 단위로 동기화해서 사용
+ */
+public class RoomEventLog {
+
+    private final RoomEvent[] ring;
+    private long lastId = 0; // 마지막으로 발급한 id (0이면 아직 없음)
+    private long firstId = 1; // 버퍼가 이어지는 첫 id (다른 노드에서 받은 이벤트가 끊기면 그 id부터 다시 시작)
+
+    public RoomEventLog(int capacity) {
+        this.ring = new RoomEvent[capacity];
+    }
+
+    /**
+     * 새 id를 발급해서 이벤트 기록
+     * @return id가 붙은 이벤트
+     */
+    public synchronized RoomEvent append(String eventName, String data, Long targetPlayerId, Long excludedPlayerId) {
+        RoomEvent event = new RoomEvent(++lastId, eventName, data, targetPlayerId, excludedPlayerId);
+        ring[(int) (lastId % ring.length)] = event;
+        return event;
+    }
+
+    /**
+     * 다른 노드(방 담당 노드)에서 id를 붙여 발행한 이벤트 기록
+     * 이미 기록된 이벤트는 무시하고, id가 이어지지 않으면(늦게 구독 / 담당 노드 변경) 그 이벤트부터 새로 기록
+     * @param event id가 붙은 이벤트
+     */
+    public synchronized void record(RoomEvent event) {
+        long id = event.id();
+        if (id == lastId + 1) {
+            lastId = id;
+            ring[(int) (id % ring.length)] = event;
+            return;
+        }
+
+        RoomEvent recorded = ring[(int) (id % ring.length)];
+        if (id >= firstId && id <= lastId && recorded != null && recorded.id() == id) {
+            return; // 이 노드에서 발행하면서 이미 기록한 이벤트
+        }
+
+        firstId = id;
+        lastId = id;
+        ring[(int) (id % ring.length)] = event;
+    }
+
+    /**
+     * 마지막으로 발급 / 기록한 id
+     */
+    public synchronized long lastId() {
+        return lastId;
+    }
+
+    /**
+     * 이전에 발급했을 수 있는 id를 건너뛰고 id 이후부터 발급 (복원한 방)
+     * 건너뛴 범위의 id로 재연결하면 버퍼 범위 밖으로 보고 전체 상태를 보내게 됨
+     * @param id 마지막으로 발급한 것으로 볼 id
+     */
+    public synchronized void skipTo(long id) {
+        if (id > lastId) {
+            lastId = id;
+            firstId = id + 1;
+        }
+    }
+
+    /**
+     * lastEventId 이후 이벤트 조회
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id
+     * @return 놓친 이벤트 목록, 버퍼 범위를 벗어났으면 null
+     */
+    public synchronized List<RoomEvent> since(long lastEventId) {
+        if (lastEventId > lastId || lastEventId < 0) {
+            return null; // 다른 서버 인스턴스나 재시작 전의 id
+        }
+
+        long oldestId = Math.max(firstId, lastId - ring.length + 1);
+        if (lastEventId + 1 < oldestId) {
+            return null;
+        }
+
+        List<RoomEvent> missed = new ArrayList<>((int) (lastId - lastEventId));
+        for (long id = lastEventId + 1; id <= lastId; id++) {
+            missed.add(ring[(int) (id % ring.length)]);
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,36 @@
+package com.coders.boardgame.domain.game.sse;
+
+import java.io.Serializable;
+
+/**
+ * SSE 연결을 받은 노드가 방 담당 노드에 보내는 연결 상태 알림 / 노드 종료 준비 알림
+ * @param type 알림 종류
+ * @param roomId 방 id (NODE_LEAVING 이면 null)
+ * @param playerId 플레이어 id (NODE_LEAVING 이면 null)
+ * @param fromNode 연결을 가진 노드 / 종료 준비 중인 노드 이름
+ * @param reconnecting 기존 연결을 대체한 재연결인지 (CONNECTED)
+ * @param resumed 놓친 이벤트를 재전송했는지 (CONNECTED)
+ * @param sinceVersion 클라이언트가 마지막으로 받은 방 상태 버전 (CONNECTED, 없으면 null)
+ */
+public record RoomSignal(Type type, String roomId, Long playerId, String fromNode,
+                         boolean reconnecting, boolean resumed, Long sinceVersion) implements Serializable {
+
+    public enum Type {
+        CONNECTED,
+        DISCONNECTED,
+        NODE_LEAVING // 보낸 노드가 종료 준비 중이라 방을 맡지 않음
+    }
+
+    public static RoomSignal connected(String roomId, Long playerId, String fromNode,
+                                       boolean reconnecting, boolean resumed, Long sinceVersion) {
+        return new RoomSignal(Type.CONNECTED, roomId, playerId, fromNode, reconnecting, resumed, sinceVersion);
+    }
+
+    public static RoomSignal disconnected(String roomId, Long playerId, String fromNode) {
+        return new RoomSignal(Type.DISCONNECTED, roomId, playerId, fromNode, false, false, null);
+    }
+
+    public static RoomSignal leaving(String fromNode) {
+        return new RoomSignal(Type.NODE_LEAVING, null, null, fromNode, false, false, null);
+    }
+}
@@ -0,0 +1,250 @@
+package com.coders.boardgame.domain.game.sse;
+
+import com.coders.boardgame.domain.game.enums.SlowConsumerPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 플레이어 한명의 SSE 연결
+ * 전송할 프레임을 제한된 크기의 큐에 쌓고, writer executor가 순서대로 emitter에 씀
+ * 한 연결의 큐는 한번에 하나의 작업만 비우므로 전송 순서가 보장됨
+ * 묶음 전송(batchWindowMs > 0)이면 첫 프레임 이후 그 시간 동안 쌓인 프레임을 한번에 이어서 쓰고 한번만 flush
+ */
+@Slf4j
+@Getter
+public class SseConnection {
+
+    // 한번의 drain 작업에서 보낼 최대 프레임 수 (다른 연결과 writer를 나눠쓰기 위함)
+    private static final int MAX_FRAMES_PER_DRAIN = 64;
+
+    private final String roomId;
+    private final Long playerId;
+    private final SseEmitter emitter;
+
+    private final int capacity;
+    private final SlowConsumerPolicy policy;
+    private final Executor writer;
+    private final long batchWindowMs;                  // 0이면 프레임마다 바로 전송
+    private final ScheduledExecutorService batchTimer; // 묶음 전송 대기 타이머 (batchWindowMs > 0 일때만)
+    private final Listener listener;
+
+    private final Deque<SseEventFrame> queue = new ArrayDeque<>();
+    private final List<SseEventFrame> batch = new ArrayList<>(); // drain 작업에서만 사용
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+    private volatile long lastWriteTime; // 마지막으로 emitter 쓰기에 성공한 시각
+    @Setter
+    private volatile long replayedUpTo; // 연결 시점에 재전송 버퍼에 있던 마지막 이벤트 id (이하 id의 실시간 이벤트는 중복)
+
+    /**
+     * 연결 상태 변화 콜백
+     */
+    public interface Listener {
+        /**
+         * emitter 쓰기 실패
+         */
+        void onSendFailure(SseConnection connection, SseEventFrame frame, Exception e);
+
+        /**
+         * DISCONNECT 정책에서 큐가 가득 참
+         */
+        void onSlowConsumer(SseConnection connection);
+
+        /**
+         * 프레임을 emitter에 쓰고 flush 완료
+         * @param flushedNanos flush 완료 시각 (System.nanoTime)
+         */
+        void onFlushed(SseConnection connection, SseEventFrame frame, long flushedNanos);
+    }
+
+    SseConnection(String roomId, Long playerId, SseEmitter emitter,
+                  int capacity, SlowConsumerPolicy policy, Executor writer,
+                  long batchWindowMs, ScheduledExecutorService batchTimer, Listener listener) {
+        this.roomId = roomId;
+        this.playerId = playerId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.writer = writer;
+        this.batchWindowMs = batchWindowMs;
+        this.batchTimer = batchTimer;
+        this.listener = listener;
+    }
+
+    /**
+     * 프레임을 전송 큐에 추가하고 바로 반환
+     * @param frame 전송할 프레임
+     */
+    public void enqueue(SseEventFrame frame) {
+        if (closed) {
+            return;
+        }
+
+        boolean slowConsumer = false;
+        synchronized (queue) {
+            if (queue.size() >= capacity) {
+                switch (policy) {
+                    case DROP -> {
+                        log.debug("SSE 전송 큐 가득참, 이벤트 버림: roomId={}, playerId={}, eventName={}",
+                                roomId, playerId, frame.getEventName());
+                        return;
+                    }
+                    // 교체할 수 없는 프레임은 버리지 않고 연결을 끊어 Last-Event-ID 재연결로 이어받게 함
+                    case COALESCE -> slowConsumer = !coalesce(frame);
+                    case DISCONNECT -> slowConsumer = true;
+                }
+            } else {
+                queue.addLast(frame);
+            }
+        }
+
+        if (slowConsumer) {
+            log.info("SSE 전송 큐 가득참, 연결 종료: roomId={}, playerId={}", roomId, playerId);
+            close();
+            listener.onSlowConsumer(this);
+            return;
+        }
+
+        scheduleDrain(batchWindowMs);
+    }
+
+    /**
+     * heartbeat 프레임 전송
+     * 보낼 프레임이 이미 대기중이면 그 전송이 연결 확인을 대신하므로 추가하지 않음
+     * @param heartbeat heartbeat 프레임
+     */
+    public void sendHeartbeat(SseEventFrame heartbeat) {
+        if (closed) {
+            return;
+        }
+        synchronized (queue) {
+            if (!queue.isEmpty()) {
+                return;
+            }
+            queue.addLast(heartbeat);
+        }
+        scheduleDrain(0);
+    }
+
+    /**
+     * 연결 종료, 대기중인 프레임은 버림
+     */
+    public void close() {
+        closed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * 교체 가능한 프레임이면 같은 이름의 대기중인 프레임을 제거하고 최신 프레임을 뒤에 추가
+     * @return 교체 여부 (교체할 수 없는 프레임이거나 같은 이름이 없으면 false)
+     */
+    private boolean coalesce(SseEventFrame frame) {
+        if (!frame.isCoalescable()) {
+            return false;
+        }
+        Iterator<SseEventFrame> it = queue.iterator();
+        while (it.hasNext()) {
+            if (it.next().getEventName().equals(frame.getEventName())) {
+                it.remove();
+                queue.addLast(frame);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * drain 작업 예약 (이미 예약되어 있으면 그 작업이 새 프레임도 보냄)
+     * @param delayMs 묶음 전송 대기 시간, 0이면 바로 예약
+     */
+    private void scheduleDrain(long delayMs) {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (delayMs > 0) {
+                batchTimer.schedule(this::submitDrain, delayMs, TimeUnit.MILLISECONDS);
+            } else {
+                writer.execute(this::drain);
+            }
+        } catch (RejectedExecutionException e) {
+            rejected(e);
+        }
+    }
+
+    private void submitDrain() {
+        try {
+            writer.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            rejected(e);
+        }
+    }
+
+    private void rejected(RejectedExecutionException e) {
+        draining.set(false);
+        close();
+        listener.onSendFailure(this, null, e);
+    }
+
+    private void drain() {
+        // 묶음 전송이면 한번의 write에 보낼 수 있는 만큼, 아니면 프레임 하나씩
+        int framesPerWrite = batchWindowMs > 0 ? MAX_FRAMES_PER_DRAIN : 1;
+        try {
+            for (int sent = 0; sent < MAX_FRAMES_PER_DRAIN && !closed; sent += batch.size()) {
+                batch.clear();
+                synchronized (queue) {
+                    while (batch.size() < framesPerWrite && !queue.isEmpty()) {
+                        batch.add(queue.pollFirst());
+                    }
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                SseEventFrame frame = batch.size() == 1 ? batch.get(0) : SseEventFrame.batch(batch);
+                try {
+                    emitter.send(frame.toSendItems());
+                    lastWriteTime = System.currentTimeMillis();
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    listener.onSendFailure(this, batch.get(0), e);
+                    return;
+                }
+                long flushedNanos = System.nanoTime();
+                for (SseEventFrame sentFrame : batch) {
+                    if (sentFrame.isTracked()) {
+                        listener.onFlushed(this, sentFrame, flushedNanos);
+                    }
+                }
+            }
+        } finally {
+            batch.clear();
+            draining.set(false);
+        }
+
+        // drain 도중 추가된 프레임이 있으면 다시 예약
+        boolean hasPending;
+        synchronized (queue) {
+            hasPending = !queue.isEmpty();
+        }
+        if (hasPending && !closed) {
+            scheduleDrain(0);
+        }
+    }
+}
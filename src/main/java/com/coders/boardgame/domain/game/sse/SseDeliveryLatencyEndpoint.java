@@ -0,0 +1,43 @@
+package com.coders.boardgame.domain.game.sse;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SSE 전송 지연 조회 (/actuator/sselatency)
+ * GET /actuator/sselatency         이벤트 이름 / 방 인원별 백분위 (마이크로초)
+ * GET /actuator/sselatency/slowest 최근 가장 느렸던 전송 목록
+ * DELETE /actuator/sselatency      누적 기록 초기화
+ */
+@Component
+@Endpoint(id = "sselatency")
+@RequiredArgsConstructor
+public class SseDeliveryLatencyEndpoint {
+
+    private final SseDeliveryLatencyRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Map<Integer, SseDeliveryLatencyRecorder.LatencySummary>> percentiles() {
+        return recorder.summaries();
+    }
+
+    @ReadOperation
+    public List<SseDeliveryLatencyRecorder.SlowDelivery> section(@Selector String section) {
+        if (!"slowest".equals(section)) {
+            return null; // actuator가 404로 응답
+        }
+        return recorder.slowest();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
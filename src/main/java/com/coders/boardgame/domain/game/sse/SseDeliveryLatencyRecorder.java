@@ -0,0 +1,204 @@
+package com.coders.boardgame.domain.game.sse;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * SSE 전송 지연 기록기
+ * 프레임 인코딩(이벤트 발행) 시점부터 emitter flush 완료까지 걸린 시간을 이벤트 이름 / 방 인원별 HDR 히스토그램에 기록
+ * 가장 느렸던 최근 전송은 별도로 보관해 어떤 이벤트와 클라이언트가 꼬리 지연을 만드는지 확인할 수 있게 함
+ */
+@Component
+public class SseDeliveryLatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final int MAX_TRACKED_FAN_OUT = 8; // 이보다 큰 방은 같은 칸에 모음
+
+    private final Map<String, AtomicReferenceArray<LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private final SlowDeliveries slowDeliveries;
+
+    public SseDeliveryLatencyRecorder(@Value("${game.sse.latency.slowest-size:50}") int slowestSize,
+                                      @Value("${game.sse.latency.slowest-window-ms:300000}") long slowestWindowMs) {
+        this.slowDeliveries = new SlowDeliveries(slowestSize, slowestWindowMs);
+    }
+
+    /**
+     * 한 연결에 대한 전송 지연 기록
+     * @param connection 전송한 연결
+     * @param frame 전송한 프레임
+     * @param flushedNanos flush 완료 시각 (System.nanoTime)
+     */
+    public void record(SseConnection connection, SseEventFrame frame, long flushedNanos) {
+        long latencyMicros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(flushedNanos - frame.getCreatedNanos()));
+        int fanOut = Math.min(Math.max(frame.getFanOut(), 1), MAX_TRACKED_FAN_OUT);
+
+        histogram(frame.getEventName(), fanOut).record(latencyMicros);
+        slowDeliveries.offer(connection, frame, latencyMicros);
+    }
+
+    /**
+     * 이벤트 이름 / 방 인원별 지연 백분위 (마이크로초)
+     * @return eventName -> fanOut -> 백분위
+     */
+    public Map<String, Map<Integer, LatencySummary>> summaries() {
+        Map<String, Map<Integer, LatencySummary>> result = new TreeMap<>();
+        histograms.forEach((eventName, slots) -> {
+            Map<Integer, LatencySummary> bySize = new TreeMap<>();
+            for (int i = 0; i < slots.length(); i++) {
+                LatencyHistogram histogram = slots.get(i);
+                if (histogram != null) {
+                    bySize.put(i, histogram.summary());
+                }
+            }
+            result.put(eventName, bySize);
+        });
+        return result;
+    }
+
+    /**
+     * 최근 가장 느렸던 전송 목록 (느린 순)
+     */
+    public List<SlowDelivery> slowest() {
+        return slowDeliveries.snapshot();
+    }
+
+    /**
+     * 누적된 히스토그램과 느린 전송 목록 초기화
+     */
+    public void reset() {
+        histograms.clear();
+        slowDeliveries.clear();
+    }
+
+    private LatencyHistogram histogram(String eventName, int fanOut) {
+        AtomicReferenceArray<LatencyHistogram> slots =
+                histograms.computeIfAbsent(eventName, k -> new AtomicReferenceArray<>(MAX_TRACKED_FAN_OUT + 1));
+        LatencyHistogram histogram = slots.get(fanOut);
+        if (histogram == null) {
+            slots.compareAndSet(fanOut, null, new LatencyHistogram());
+            histogram = slots.get(fanOut);
+        }
+        return histogram;
+    }
+
+    /**
+     * 백분위 요약 (마이크로초)
+     */
+    public record LatencySummary(long count, long p50, long p90, long p99, long p999, long max) {
+    }
+
+    /**
+     * 느린 전송 한건
+     * @param fanOut 이벤트를 받은 연결 수
+     * @param latencyMicros 발행부터 flush 까지 걸린 시간
+     * @param flushedAt flush 완료 시각 (epoch ms)
+     */
+    public record SlowDelivery(String eventName, String roomId, Long playerId, int fanOut,
+                               long latencyMicros, long flushedAt) {
+    }
+
+    /**
+     * 쓰기는 Recorder로 락 없이 받고, 조회할 때 구간 히스토그램을 누적 히스토그램에 합침
+     */
+    private static final class LatencyHistogram {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        void record(long latencyMicros) {
+            recorder.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        }
+
+        synchronized LatencySummary summary() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return new LatencySummary(total.getTotalCount(),
+                    total.getValueAtPercentile(50), total.getValueAtPercentile(90),
+                    total.getValueAtPercentile(99), total.getValueAtPercentile(99.9),
+                    total.getMaxValue());
+        }
+    }
+
+    /**
+     * 최근 느린 전송 top-N
+     * window 마다 세대를 바꿔 오래된 느린 전송이 새 기록을 계속 밀어내지 않도록 함 (현재 + 직전 세대를 보여줌)
+     */
+    private static final class SlowDeliveries {
+        private final int capacity;
+        private final long windowMs;
+
+        private PriorityQueue<SlowDelivery> current = newQueue();
+        private List<SlowDelivery> previous = List.of();
+        private volatile long generationStart = System.currentTimeMillis();
+        private volatile long threshold; // 큐가 가득 찼을 때 들어가기 위한 최소 지연, 빠른 전송은 락 없이 걸러냄
+
+        SlowDeliveries(int capacity, long windowMs) {
+            this.capacity = capacity;
+            this.windowMs = windowMs;
+        }
+
+        void offer(SseConnection connection, SseEventFrame frame, long latencyMicros) {
+            if (capacity <= 0) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (latencyMicros < threshold && now - generationStart < windowMs) {
+                return;
+            }
+            synchronized (this) {
+                rotateIfNeeded();
+                if (current.size() >= capacity && latencyMicros <= current.peek().latencyMicros()) {
+                    return;
+                }
+                current.offer(new SlowDelivery(frame.getEventName(), connection.getRoomId(),
+                        connection.getPlayerId(), frame.getFanOut(), latencyMicros, now));
+                if (current.size() > capacity) {
+                    current.poll();
+                }
+                threshold = current.size() >= capacity ? current.peek().latencyMicros() : 0L;
+            }
+        }
+
+        synchronized List<SlowDelivery> snapshot() {
+            rotateIfNeeded();
+            List<SlowDelivery> merged = new ArrayList<>(current);
+            merged.addAll(previous);
+            merged.sort(Comparator.comparingLong(SlowDelivery::latencyMicros).reversed());
+            return merged.size() > capacity ? new ArrayList<>(merged.subList(0, capacity)) : merged;
+        }
+
+        synchronized void clear() {
+            current.clear();
+            previous = List.of();
+            threshold = 0L;
+        }
+
+        private void rotateIfNeeded() {
+            long now = System.currentTimeMillis();
+            if (now - generationStart < windowMs) {
+                return;
+            }
+            previous = now - generationStart < windowMs * 2 ? new ArrayList<>(current) : List.of();
+            current = newQueue();
+            generationStart = now;
+            threshold = 0L;
+        }
+
+        private static PriorityQueue<SlowDelivery> newQueue() {
+            return new PriorityQueue<>(Comparator.comparingLong(SlowDelivery::latencyMicros));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.coders.boardgame.domain.game.sse;
+
+import com.coders.boardgame.domain.game.enums.SlowConsumerPolicy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 비동기 전송 디스패처
+ * 연결마다 전송 큐를 두고 공용 writer 스레드풀에서 큐를 비워 게임 로직 호출이 바로 반환되도록 함
+ * game.sse.batch-window-ms > 0 이면 짧은 시간 동안 몰린 방 이벤트(입장 / 준비 취소 / 방장 변경 등)를
+ * 연결마다 한번의 write / flush로 묶어서 보냄
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final int queueCapacity;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final ExecutorService writer;
+    private final long batchWindowMs;
+    private final ScheduledExecutorService batchTimer; // 묶음 전송을 쓰지 않으면 null
+
+    public SseDispatcher(@Value("${game.sse.queue-capacity:64}") int queueCapacity,
+                         @Value("${game.sse.slow-consumer-policy:COALESCE}") SlowConsumerPolicy slowConsumerPolicy,
+                         @Value("${game.sse.writer-threads:0}") int writerThreads,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                         @Value("${game.sse.batch-window-ms:0}") long batchWindowMs) {
+        this.queueCapacity = queueCapacity;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+        this.batchWindowMs = batchWindowMs;
+        this.batchTimer = batchWindowMs > 0
+                ? Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("sse-batch-timer-"))
+                : null;
+
+        if (virtualThreads) {
+            // 가상 스레드 모드: 느린 클라이언트에 막힌 전송이 다른 연결의 writer를 점유하지 않음
+            this.writer = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-writer-", 0).factory());
+            log.info("SSE 디스패처 초기화: writer=virtual, queueCapacity={}, slowConsumerPolicy={}",
+                    queueCapacity, slowConsumerPolicy);
+        } else {
+            int threads = writerThreads > 0 ? writerThreads : Runtime.getRuntime().availableProcessors() * 2;
+            this.writer = Executors.newFixedThreadPool(threads, daemonThreadFactory("sse-writer-"));
+            log.info("SSE 디스패처 초기화: writerThreads={}, queueCapacity={}, slowConsumerPolicy={}",
+                    threads, queueCapacity, slowConsumerPolicy);
+        }
+        if (batchWindowMs > 0) {
+            log.info("SSE 묶음 전송 사용: batchWindowMs={}", batchWindowMs);
+        }
+    }
+
+    /**
+     * 연결에 쓸 emitter 생성
+     * 연결의 프레임은 모두 emitter.send(Set)으로 쓰므로, 벤치마크는 이 메서드를 바꿔 전송 데이터를 버리는 emitter를 씀
+     * @param timeoutMs emitter 타임아웃
+     */
+    public SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    /**
+     * emitter를 전송 큐를 가진 연결로 감쌈
+     * @param roomId 방 id
+     * @param playerId 플레이어 id
+     * @param emitter SSE emitter
+     * @param listener 전송 실패/느린 소비자 콜백
+     * @return SseConnection
+     */
+    public SseConnection open(String roomId, Long playerId, SseEmitter emitter, SseConnection.Listener listener) {
+        return new SseConnection(roomId, playerId, emitter, queueCapacity, slowConsumerPolicy, writer,
+                batchWindowMs, batchTimer, listener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (batchTimer != null) {
+            batchTimer.shutdown();
+        }
+        writer.shutdown();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.coders.boardgame.domain.game.sse;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한번 직렬화가 끝난 SSE 이벤트 프레임
+ * 같은 바이트 배열을 방의 모든 emitter에 그대로 써서 이벤트당 직렬화를 한번만 수행
+ */
+@Getter
+public final class SseEventFrame {
+
+    // 최신 프레임 하나가 이전 프레임을 완전히 대신하는 이벤트 (COALESCE 정책에서 교체 가능)
+    private static final Set<String> SNAPSHOT_EVENTS = Set.of("heartbeat", "game-connected");
+
+    private final String eventName;
+    private final byte[] bytes;
+    private final long createdNanos; // 인코딩 시각 (System.nanoTime), 0이면 전송 지연을 기록하지 않음
+    private final int fanOut;        // 이 프레임을 받는 연결 수
+
+    SseEventFrame(String eventName, byte[] bytes) {
+        this(eventName, bytes, 0L, 0);
+    }
+
+    SseEventFrame(String eventName, byte[] bytes, long createdNanos, int fanOut) {
+        this.eventName = eventName;
+        this.bytes = bytes;
+        this.createdNanos = createdNanos;
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * 여러 프레임을 이어붙인 프레임 (묶음 전송용, 한번의 write / flush로 보냄)
+     * 각 프레임이 빈 줄로 끝나므로 이어붙여도 클라이언트는 이벤트를 하나씩 받음
+     * @param frames 순서대로 보낼 프레임
+     * @return 묶은 프레임 (전송 지연은 원래 프레임별로 기록하므로 여기서는 기록하지 않음)
+     */
+    static SseEventFrame batch(List<SseEventFrame> frames) {
+        int length = 0;
+        for (SseEventFrame frame : frames) {
+            length += frame.bytes.length;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (SseEventFrame frame : frames) {
+            System.arraycopy(frame.bytes, 0, bytes, offset, frame.bytes.length);
+            offset += frame.bytes.length;
+        }
+        return new SseEventFrame("batch", bytes);
+    }
+
+    /**
+     * 대기중인 같은 이름의 프레임을 이 프레임으로 교체해도 되는지 (전체 상태 / 연결 확인 프레임)
+     * 그 외 이벤트는 하나라도 빠지면 클라이언트 상태가 어긋나고 Last-Event-ID 재전송으로도 복구되지 않음
+     */
+    public boolean isCoalescable() {
+        return SNAPSHOT_EVENTS.contains(eventName);
+    }
+
+    /**
+     * 전송 지연을 기록할 프레임인지 (heartbeat 등은 제외)
+     */
+    public boolean isTracked() {
+        return createdNanos != 0L;
+    }
+
+    /**
+     * emitter.send(Set) 에 넘길 데이터 생성
+     * ResponseBodyEmitter가 초기화 전 전송을 Set으로 모아두기 때문에 호출마다 새 래퍼를 만들어 중복 제거를 피함
+     * @return 인코딩된 프레임 바이트
+     */
+    public Set<ResponseBodyEmitter.DataWithMediaType> toSendItems() {
+        return Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+}
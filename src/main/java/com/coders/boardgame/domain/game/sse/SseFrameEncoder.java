@@ -0,0 +1,120 @@
+package com.coders.boardgame.domain.game.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SSE 이벤트를 text/event-stream 형식의 바이트로 인코딩
+ * 문자열 데이터는 SseEmitter와 동일하게 그대로, 그 외 객체는 JSON으로 직렬화
+ */
+@Component
+@RequiredArgsConstructor
+public class SseFrameEncoder {
+
+    // 연결 유지 확인용 주석 프레임 (클라이언트 EventSource는 무시함)
+    private static final SseEventFrame HEARTBEAT =
+            new SseEventFrame("heartbeat", ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * heartbeat 주석 프레임
+     * @return 모든 연결이 공유하는 heartbeat 프레임
+     */
+    public SseEventFrame heartbeat() {
+        return HEARTBEAT;
+    }
+
+    /**
+     * 재연결 대기 시간 프레임 (retry: 필드만 있어 이벤트로 전달되지 않고 EventSource의 재연결 대기 시간만 바꿈)
+     * @param retryMs 재연결 대기 시간 (ms)
+     * @return 연결 하나에 보내는 프레임
+     */
+    public SseEventFrame retry(long retryMs) {
+        return new SseEventFrame("retry", ("retry:" + retryMs + "\n\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이벤트 프레임 인코딩
+     * @param eventName 이벤트 이름
+     * @param data 이벤트 데이터
+     * @return 인코딩된 프레임
+     */
+    public SseEventFrame encode(String eventName, Object data) {
+        return encodeSerialized(eventName, serialize(data));
+    }
+
+    /**
+     * 이미 직렬화된 데이터로 이벤트 프레임 인코딩
+     * @param eventName 이벤트 이름
+     * @param payload 직렬화된 데이터
+     * @return 인코딩된 프레임
+     */
+    public SseEventFrame encodeSerialized(String eventName, String payload) {
+        return encodeFrame(null, eventName, payload, 1);
+    }
+
+    /**
+     * 방 이벤트 인코딩, id가 있으면 id: 필드를 포함해 클라이언트가 Last-Event-ID로 돌려보낼 수 있게 함
+     * @param event 방 이벤트
+     * @return 인코딩된 프레임
+     */
+    public SseEventFrame encode(RoomEvent event) {
+        return encode(event, 1);
+    }
+
+    /**
+     * 방 이벤트 인코딩
+     * @param event 방 이벤트
+     * @param fanOut 이 프레임을 받는 연결 수 (전송 지연 집계용)
+     * @return 인코딩된 프레임
+     */
+    public SseEventFrame encode(RoomEvent event, int fanOut) {
+        return encodeFrame(event.id(), event.eventName(), event.data(), fanOut);
+    }
+
+    private SseEventFrame encodeFrame(Long id, String eventName, String payload, int fanOut) {
+        long createdNanos = System.nanoTime();
+        StringBuilder sb = new StringBuilder(payload.length() + eventName.length() + 32);
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        sb.append("event:").append(eventName).append('\n');
+        appendData(sb, payload);
+        sb.append('\n');
+        return new SseEventFrame(eventName, sb.toString().getBytes(StandardCharsets.UTF_8), createdNanos, fanOut);
+    }
+
+    /**
+     * 이벤트 데이터 직렬화
+     * @param data 이벤트 데이터
+     * @return 문자열은 그대로, 그 외는 JSON
+     */
+    public String serialize(Object data) {
+        if (data instanceof String text) {
+            return text;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("SSE 이벤트 데이터 직렬화 실패: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * 여러 줄 데이터는 줄마다 data: 필드로 나눔
+     */
+    private void appendData(StringBuilder sb, String payload) {
+        int start = 0;
+        int newline;
+        while ((newline = payload.indexOf('\n', start)) != -1) {
+            sb.append("data:").append(payload, start, newline).append('\n');
+            start = newline + 1;
+        }
+        sb.append("data:").append(payload, start, payload.length()).append('\n');
+    }
+}
@@ -1,6 +1,7 @@
 package com.coders.boardgame.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -91,6 +92,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(problemDetail, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
+    @ExceptionHandler(RoomCapacityExceededException.class)
+    public ResponseEntity<String> handleRoomCapacityExceededException(RoomCapacityExceededException ex) {
+        log.warn("방 생성 거절: {}", ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(NodeDrainingException.class)
+    public ResponseEntity<String> handleNodeDrainingException(NodeDrainingException ex) {
+        log.info("종료 준비 중이라 요청 거절: {}", ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(GameRoomException.class)
     public ResponseEntity<String> handleGameRoomException(GameRoomException ex) {
 
@@ -0,0 +1,19 @@
+package com.coders.boardgame.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 서버가 종료 준비(drain) 중이라 새 방 / 입장을 받지 않음 (503 + Retry-After)
+ */
+public class NodeDrainingException extends GameRoomException {
+    private final long retryAfterSeconds;
+
+    public NodeDrainingException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.coders.boardgame.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 방 수가 최대치에 도달해 새 방을 만들 수 없음 (503 + Retry-After)
+ */
+public class RoomCapacityExceededException extends GameRoomException {
+    private final long retryAfterSeconds;
+
+    public RoomCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
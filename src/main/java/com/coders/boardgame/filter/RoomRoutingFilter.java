@@ -0,0 +1,144 @@
+package com.coders.boardgame.filter;
+
+import com.coders.boardgame.domain.game.cluster.RoomOwnership;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 방 명령 라우팅 필터
+ * 방 id가 들어간 요청(/api/rooms/{roomId}, /api/games/{roomId})이 다른 노드가 담당하는 방이면
+ * 그 노드로 그대로 전달하고 응답을 돌려줌
+ * SSE 연결은 전달하지 않고 받은 노드에 두며, 이벤트는 방 topic(RoomEventBus)으로 받음
+ * 인증은 이 노드에서 먼저 하고, 세션은 노드끼리 공유하므로 쿠키를 그대로 넘김
+ */
+@Slf4j
+@Component
+public class RoomRoutingFilter extends OncePerRequestFilter {
+
+    // 다른 노드에서 전달된 요청 표시 (담당 노드 판단이 엇갈려도 한번만 전달)
+    public static final String FORWARDED_BY_HEADER = "X-Room-Forwarded-By";
+
+    private static final Pattern ROOM_PATH = Pattern.compile("^/api/(?:rooms|games)/([^/]+)");
+
+    // 전달하지 않는 헤더 (hop-by-hop, HttpClient가 직접 설정하는 헤더, CORS는 이 노드에서 처리)
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "te", "trailer", "upgrade",
+            "host", "content-length", "expect", "origin");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final RoomOwnership roomOwnership;
+    private final HttpClient httpClient;
+
+    public RoomRoutingFilter(RoomOwnership roomOwnership) {
+        this.roomOwnership = roomOwnership;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return roomOwnership.isSingleNode() || request.getHeader(FORWARDED_BY_HEADER) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Matcher matcher = ROOM_PATH.matcher(request.getRequestURI());
+        String ownerUrl = matcher.find() ? roomOwnership.ownerUrl(matcher.group(1)) : null;
+        if (ownerUrl == null || ownerUrl.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            forward(request, response, ownerUrl);
+        } catch (IOException e) {
+            log.warn("방 담당 노드로 요청 전달 실패: uri={}, owner={}, error={}",
+                    request.getRequestURI(), ownerUrl, e.getMessage());
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+        }
+    }
+
+    private void forward(HttpServletRequest request, HttpServletResponse response, String ownerUrl)
+            throws IOException, InterruptedException {
+
+        String query = request.getQueryString();
+        URI target = URI.create(ownerUrl + request.getRequestURI() + (query != null ? "?" + query : ""));
+
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body))
+                .header(FORWARDED_BY_HEADER, roomOwnership.getLocalMember());
+
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+            for (String value : Collections.list(request.getHeaders(name))) {
+                builder.header(name, value);
+            }
+        }
+
+        HttpResponse<InputStream> forwarded = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        response.setStatus(forwarded.statusCode());
+        for (Map.Entry<String, List<String>> header : forwarded.headers().map().entrySet()) {
+            String name = header.getKey();
+            if (name.startsWith(":") || SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+            // 이 노드의 보안 필터가 붙인 같은 헤더는 담당 노드 값으로 교체
+            List<String> values = header.getValue();
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                response.addHeader(name, values.get(i));
+            }
+        }
+
+        // 읽은 만큼 바로 전달
+        try (InputStream in = forwarded.body()) {
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        }
+    }
+}
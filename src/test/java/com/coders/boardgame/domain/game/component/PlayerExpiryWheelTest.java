@@ -0,0 +1,89 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.component.PlayerExpiryWheel.PlayerKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerExpiryWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final long THRESHOLD_MS = 100;
+
+    private PlayerExpiryWheel wheel;
+    private long start;
+
+    @BeforeEach
+    void setUp() {
+        // wheel은 생성 시각의 tick부터 처리하므로 시각은 실제 시각 기준으로 진행
+        start = System.currentTimeMillis();
+        wheel = new PlayerExpiryWheel(TICK_MS, THRESHOLD_MS);
+    }
+
+    @Test
+    void scheduledPlayerExpiresOnlyAfterThreshold() {
+        wheel.schedule("room", 1L, start);
+
+        assertThat(wheel.advance(start + THRESHOLD_MS / 2)).isEmpty();
+        assertThat(wheel.advance(start + THRESHOLD_MS + TICK_MS)).containsExactly(new PlayerKey("room", 1L));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void expiredPlayerIsReturnedOnlyOnce() {
+        wheel.schedule("room", 1L, start);
+
+        assertThat(wheel.advance(start + THRESHOLD_MS + TICK_MS)).hasSize(1);
+        assertThat(wheel.advance(start + THRESHOLD_MS * 3)).isEmpty();
+    }
+
+    @Test
+    void touchPostponesExpiry() {
+        wheel.schedule("room", 1L, start);
+        wheel.touch("room", 1L, start + 80);
+
+        assertThat(wheel.advance(start + THRESHOLD_MS + TICK_MS)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(start + 80 + THRESHOLD_MS + TICK_MS)).containsExactly(new PlayerKey("room", 1L));
+    }
+
+    @Test
+    void touchRegistersUnknownPlayer() {
+        wheel.touch("room", 2L, start);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(start + THRESHOLD_MS + TICK_MS)).containsExactly(new PlayerKey("room", 2L));
+    }
+
+    @Test
+    void rescheduleReplacesPreviousEntry() {
+        wheel.schedule("room", 1L, start);
+        wheel.schedule("room", 1L, start + 50);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(start + THRESHOLD_MS + TICK_MS)).isEmpty();
+        assertThat(wheel.advance(start + 50 + THRESHOLD_MS + TICK_MS)).containsExactly(new PlayerKey("room", 1L));
+    }
+
+    @Test
+    void removedPlayerNeverExpires() {
+        wheel.schedule("room", 1L, start);
+        wheel.schedule("room", 2L, start);
+        wheel.remove("room", 1L);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(start + THRESHOLD_MS + TICK_MS)).containsExactly(new PlayerKey("room", 2L));
+    }
+
+    @Test
+    void advanceAfterLongPauseExpiresEveryPlayerOnce() {
+        for (long playerId = 1; playerId <= 20; playerId++) {
+            wheel.schedule("room", playerId, start + playerId);
+        }
+
+        // 한 바퀴보다 오래 밀려도 모든 버킷을 한번씩 처리
+        assertThat(wheel.advance(start + THRESHOLD_MS * 50)).hasSize(20);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.coders.boardgame.domain.game.component;
+
+import com.coders.boardgame.domain.game.cluster.InMemoryRoomStore;
+import com.coders.boardgame.domain.game.cluster.RoomStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomIdAllocatorTest {
+
+    private static final long SEQUENCE_MASK = (1L << 35) - 1;
+
+    @Test
+    void unpermuteRestoresPermutedValue() {
+        long[] samples = {0, 1, 2, 1023, 1024, 123_456_789, SEQUENCE_MASK - 1, SEQUENCE_MASK};
+        for (long value : samples) {
+            assertThat(RoomIdAllocator.unpermute(RoomIdAllocator.permute(value))).isEqualTo(value);
+        }
+        for (long value = 0; value < 100_000; value++) {
+            assertThat(RoomIdAllocator.unpermute(RoomIdAllocator.permute(value))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void permuteStaysWithinSequenceBits() {
+        for (long value = 0; value < 100_000; value++) {
+            assertThat(RoomIdAllocator.permute(value)).isBetween(0L, SEQUENCE_MASK);
+        }
+    }
+
+    @Test
+    void issuedCodesAreUniqueAndCarryNodeId() {
+        RoomIdAllocator allocator = new RoomIdAllocator(3, new InMemoryRoomStore());
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            String code = allocator.next();
+            assertThat(code).hasSize(8);
+            assertThat(RoomIdAllocator.nodeOf(code)).isEqualTo(3);
+            assertThat(codes.add(code)).as("중복 코드 %s", code).isTrue();
+        }
+    }
+
+    @Test
+    void nodesNeverIssueTheSameCode() {
+        RoomStore store = new InMemoryRoomStore();
+        RoomIdAllocator node0 = new RoomIdAllocator(0, store);
+        RoomIdAllocator node1 = new RoomIdAllocator(1, store);
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(codes.add(node0.next())).isTrue();
+            assertThat(codes.add(node1.next())).isTrue();
+        }
+    }
+
+    @Test
+    void restartedNodeDoesNotReissueCodesReservedBeforeRestart() {
+        RoomStore store = new InMemoryRoomStore(); // 클러스터 저장소처럼 재시작 후에도 남아있는 저장소
+        RoomIdAllocator beforeRestart = new RoomIdAllocator(0, store);
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < 3_000; i++) {
+            issued.add(beforeRestart.next());
+        }
+
+        // journal에 아무 방도 남지 않은 채 재시작 (다른 노드로 넘긴 방 / journal 사용 안함)
+        RoomIdAllocator afterRestart = new RoomIdAllocator(0, store);
+        for (int i = 0; i < 3_000; i++) {
+            assertThat(issued).doesNotContain(afterRestart.next());
+        }
+    }
+
+    @Test
+    void advancePastSkipsRecoveredCodesWhenStoreIsEmpty() {
+        RoomIdAllocator beforeRestart = new RoomIdAllocator(0, new InMemoryRoomStore());
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            issued.add(beforeRestart.next());
+        }
+
+        // 단일 노드 재시작: 저장소는 비었고 journal에서 복원한 방 코드만 알고 있음
+        RoomIdAllocator afterRestart = new RoomIdAllocator(0, new InMemoryRoomStore());
+        issued.forEach(afterRestart::advancePast);
+        for (int i = 0; i < 2_000; i++) {
+            assertThat(issued).doesNotContain(afterRestart.next());
+        }
+    }
+
+    @Test
+    void advancePastIgnoresCodesFromOtherNodes() {
+        RoomIdAllocator expected = new RoomIdAllocator(1, new InMemoryRoomStore());
+        RoomIdAllocator node1 = new RoomIdAllocator(1, new InMemoryRoomStore());
+
+        node1.advancePast(new RoomIdAllocator(0, new InMemoryRoomStore()).next());
+        node1.advancePast("not-a-room-code");
+
+        assertThat(node1.next()).isEqualTo(expected.next());
+    }
+}
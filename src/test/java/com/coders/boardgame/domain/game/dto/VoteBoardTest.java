@@ -0,0 +1,80 @@
+package com.coders.boardgame.domain.game.dto;
+
+import com.coders.boardgame.domain.game.enums.VoteChoice;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteBoardTest {
+
+    @Test
+    void castCountsAgreeAndDisagreeVotes() {
+        VoteBoard board = new VoteBoard(4);
+
+        board.cast(0, VoteChoice.AGREE);
+        board.cast(1, VoteChoice.DISAGREE);
+        board.cast(3, VoteChoice.AGREE);
+
+        assertThat(board.getAgreeCount()).isEqualTo(2);
+        assertThat(board.getDisagreeCount()).isEqualTo(1);
+        assertThat(board.getCastCount()).isEqualTo(3);
+        assertThat(board.isDisagree(1)).isTrue();
+        assertThat(board.isDisagree(2)).isFalse();
+    }
+
+    @Test
+    void recastReplacesPreviousVote() {
+        VoteBoard board = new VoteBoard(2);
+
+        board.cast(0, VoteChoice.AGREE);
+        board.cast(0, VoteChoice.AGREE); // 같은 투표 반복은 무시
+        assertThat(board.getAgreeCount()).isEqualTo(1);
+
+        board.cast(0, VoteChoice.DISAGREE);
+        assertThat(board.getAgreeCount()).isZero();
+        assertThat(board.getDisagreeCount()).isEqualTo(1);
+        assertThat(board.getCastCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fromBytesRestoresCounts() {
+        VoteBoard board = new VoteBoard(5);
+        board.cast(0, VoteChoice.AGREE);
+        board.cast(2, VoteChoice.DISAGREE);
+        board.cast(4, VoteChoice.DISAGREE);
+
+        VoteBoard restored = VoteBoard.fromBytes(board.toBytes());
+
+        assertThat(restored.size()).isEqualTo(5);
+        assertThat(restored.getAgreeCount()).isEqualTo(1);
+        assertThat(restored.getDisagreeCount()).isEqualTo(2);
+        assertThat(restored.getCastCount()).isEqualTo(3);
+        assertThat(restored.isDisagree(2)).isTrue();
+    }
+
+    @Test
+    void toBytesReturnsCopy() {
+        VoteBoard board = new VoteBoard(2);
+        byte[] votes = board.toBytes();
+        votes[0] = 2;
+
+        assertThat(board.isDisagree(0)).isFalse();
+    }
+
+    @Test
+    void clearResetsVotesAndCounts() {
+        VoteBoard board = new VoteBoard(3);
+        board.cast(0, VoteChoice.AGREE);
+        board.cast(1, VoteChoice.DISAGREE);
+
+        board.clear();
+
+        assertThat(board.getAgreeCount()).isZero();
+        assertThat(board.getDisagreeCount()).isZero();
+        assertThat(board.getCastCount()).isZero();
+        assertThat(board.isDisagree(1)).isFalse();
+
+        board.cast(1, VoteChoice.AGREE);
+        assertThat(board.getCastCount()).isEqualTo(1);
+    }
+}
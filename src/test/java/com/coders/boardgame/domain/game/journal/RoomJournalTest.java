@@ -0,0 +1,151 @@
+package com.coders.boardgame.domain.game.journal;
+
+import com.coders.boardgame.domain.game.cluster.RoomSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.coders.boardgame.domain.game.journal.RoomSnapshotCodecTest.room;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomJournalTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private final List<RoomJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(RoomJournal::close);
+    }
+
+    @Test
+    void recoverRestoresLatestStateOfEachRoom() {
+        RoomJournal journal = open(SEGMENT_SIZE);
+        assertThat(journal.recover()).isEmpty();
+
+        journal.append(room("ROOM0001", 1));
+        journal.append(room("ROOM0002", 1));
+        journal.append(room("ROOM0001", 2));
+        journal.append(room("ROOM0003", 1));
+        journal.delete("ROOM0002");
+        journal.close();
+
+        List<RoomSnapshot> recovered = open(SEGMENT_SIZE).recover();
+        assertThat(recovered).extracting(RoomSnapshot::roomId).containsExactly("ROOM0001", "ROOM0003");
+        assertThat(recovered.get(0)).usingRecursiveComparison().isEqualTo(room("ROOM0001", 2));
+    }
+
+    @Test
+    void compactKeepsRecordsWrittenBeforeAndAfterIt() throws IOException {
+        RoomJournal journal = open(SEGMENT_SIZE);
+        journal.recover();
+
+        journal.append(room("ROOM0001", 1));
+        journal.append(room("ROOM0002", 1));
+        journal.compact();
+        journal.append(room("ROOM0001", 2));
+        journal.delete("ROOM0002");
+        journal.compact();
+        journal.append(room("ROOM0003", 1));
+        journal.close();
+
+        // 합친 segment는 지워지고 스냅샷 하나 + 현재 segment만 남음
+        assertThat(files(".snap")).hasSize(1);
+        assertThat(files(".wal")).hasSize(1);
+
+        List<RoomSnapshot> recovered = open(SEGMENT_SIZE).recover();
+        assertThat(recovered).extracting(RoomSnapshot::roomId).containsExactly("ROOM0001", "ROOM0003");
+        assertThat(recovered).extracting(RoomSnapshot::stateVersion).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void appendRollsOverToNewSegmentWhenFull() {
+        RoomJournal journal = open(1024); // 기록 몇개만 들어가는 segment
+        journal.recover();
+
+        for (int i = 0; i < 50; i++) {
+            journal.append(room(String.format("ROOM%04d", i), i));
+        }
+        journal.close();
+
+        assertThat(open(1024).recover()).hasSize(50);
+    }
+
+    @Test
+    void recoverStopsAtCorruptRecord() throws IOException {
+        RoomJournal journal = open(SEGMENT_SIZE);
+        journal.recover();
+        journal.append(room("ROOM0001", 1));
+        journal.append(room("ROOM0002", 1));
+        journal.close();
+
+        Path segment = files(".wal").get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        int second = 8 + ByteBuffer.wrap(bytes).getInt(); // 두번째 기록 위치
+        bytes[second + 8 + 2] ^= 0x7F; // 두번째 기록 본문 한 바이트 손상
+        Files.write(segment, bytes);
+
+        assertThat(open(SEGMENT_SIZE).recover()).extracting(RoomSnapshot::roomId).containsExactly("ROOM0001");
+    }
+
+    @Test
+    void recoverIgnoresTruncatedTail() throws IOException {
+        RoomJournal journal = open(SEGMENT_SIZE);
+        journal.recover();
+        journal.append(room("ROOM0001", 1));
+        journal.append(room("ROOM0002", 1));
+        journal.close();
+
+        // 두번째 기록을 쓰던 중 죽은 것처럼 본문 중간에서 파일을 자름
+        Path segment = files(".wal").get(0);
+        int second = 8 + ByteBuffer.wrap(Files.readAllBytes(segment)).getInt();
+        try (FileChannel file = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            file.truncate(second + 8 + 3);
+        }
+
+        RoomJournal recovered = open(SEGMENT_SIZE);
+        assertThat(recovered.recover()).extracting(RoomSnapshot::roomId).containsExactly("ROOM0001");
+
+        // 잘린 기록 뒤에도 새 segment에 이어서 기록
+        recovered.append(room("ROOM0002", 2));
+        recovered.close();
+        assertThat(open(SEGMENT_SIZE).recover()).extracting(RoomSnapshot::roomId)
+                .containsExactly("ROOM0001", "ROOM0002");
+    }
+
+    @Test
+    void enabledJournalRequiresAbsoluteDirectory() {
+        assertThatThrownBy(() -> new RoomJournal(true, "data/room-journal", SEGMENT_SIZE))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RoomJournal(true, "", SEGMENT_SIZE))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new RoomJournal(false, "", SEGMENT_SIZE).recover()).isEmpty();
+    }
+
+    private RoomJournal open(int segmentSize) {
+        RoomJournal journal = new RoomJournal(true, dir.toString(), segmentSize);
+        journals.add(journal);
+        return journal;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> paths = Files.list(dir)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+}
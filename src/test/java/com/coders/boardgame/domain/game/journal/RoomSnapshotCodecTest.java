@@ -0,0 +1,67 @@
+package com.coders.boardgame.domain.game.journal;
+
+import com.coders.boardgame.domain.game.cluster.RoomSnapshot;
+import com.coders.boardgame.domain.game.cluster.RoomSnapshot.PlayerSnapshot;
+import com.coders.boardgame.domain.game.enums.GamePhase;
+import com.coders.boardgame.domain.game.enums.RoomStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomSnapshotCodecTest {
+
+    @Test
+    void readRestoresWrittenSnapshot() throws IOException {
+        RoomSnapshot room = room("A1B2C3D4", 42);
+
+        assertThat(decode(encode(room))).usingRecursiveComparison().isEqualTo(room);
+    }
+
+    @Test
+    void readRestoresNullFields() throws IOException {
+        RoomSnapshot room = new RoomSnapshot("A1B2C3D4", null, 4, null,
+                List.of(new PlayerSnapshot(1L, 3, null, null, 0, 0, 0, false, 0, 0, false, 0)),
+                new long[]{1L, 0L, 0L, 0L}, 0, 0, 0, 0, null, 0, 0, false, false, false, null,
+                new long[0], null, null, 0);
+
+        assertThat(decode(encode(room))).usingRecursiveComparison().isEqualTo(room);
+    }
+
+    @Test
+    void readRejectsUnknownVersion() throws IOException {
+        byte[] bytes = encode(room("A1B2C3D4", 1));
+        bytes[0] = (byte) (RoomSnapshotCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> decode(bytes)).isInstanceOf(IOException.class);
+    }
+
+    /**
+     * 게임 중인 방 스냅샷 (플레이어 2명, 투표판 있음)
+     */
+    static RoomSnapshot room(String roomId, long stateVersion) {
+        List<PlayerSnapshot> players = List.of(
+                new PlayerSnapshot(1L, 3, "테스트초등학교", "player-1", 0, 1, 2, true, 30, 12, true, 0),
+                new PlayerSnapshot(2L, 5, "테스트초등학교", "player-2", 1, 2, 1, false, 45, 20, true, 1));
+        return new RoomSnapshot(roomId, "room-" + roomId, 2, 1L, players, new long[]{1L, 2L},
+                1, 10, 3, 2, RoomStatus.IN_GAME, 7, 9, true, true, false, GamePhase.VOTING,
+                new long[]{1L, 2L}, 1L, new byte[]{1, 2}, stateVersion);
+    }
+
+    private static byte[] encode(RoomSnapshot room) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RoomSnapshotCodec.write(room, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static RoomSnapshot decode(byte[] bytes) throws IOException {
+        return RoomSnapshotCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.coders.boardgame.domain.game.sse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomEventLogTest {
+
+    @Test
+    void appendIssuesSequentialIds() {
+        RoomEventLog log = new RoomEventLog(8);
+
+        assertThat(log.append("a", "1", null, null).id()).isEqualTo(1L);
+        assertThat(log.append("b", "2", 7L, null).id()).isEqualTo(2L);
+        assertThat(log.append("c", "3", null, 7L).id()).isEqualTo(3L);
+    }
+
+    @Test
+    void sinceReturnsEventsAfterLastEventId() {
+        RoomEventLog log = new RoomEventLog(8);
+        for (int i = 1; i <= 5; i++) {
+            log.append("event", String.valueOf(i), null, null);
+        }
+
+        assertThat(ids(log.since(0))).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(ids(log.since(3))).containsExactly(4L, 5L);
+        assertThat(log.since(5)).isEmpty();
+    }
+
+    @Test
+    void sinceReturnsNullOutsideBuffer() {
+        RoomEventLog log = new RoomEventLog(4);
+        for (int i = 1; i <= 10; i++) {
+            log.append("event", String.valueOf(i), null, null);
+        }
+
+        // 버퍼에는 7~10만 남음
+        assertThat(log.since(5)).isNull();
+        assertThat(ids(log.since(6))).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(log.since(11)).isNull(); // 다른 인스턴스 / 재시작 전 id
+        assertThat(log.since(-1)).isNull();
+    }
+
+    @Test
+    void recordIgnoresDuplicatesAndRestartsOnGap() {
+        RoomEventLog log = new RoomEventLog(8);
+        log.record(event(1L));
+        log.record(event(2L));
+        log.record(event(2L)); // 이미 기록한 이벤트
+
+        assertThat(ids(log.since(0))).containsExactly(1L, 2L);
+
+        // 이어지지 않는 id는 그 id부터 새로 기록하고 이전 범위로의 재연결은 버퍼 밖으로 봄
+        log.record(event(10L));
+        assertThat(log.since(2)).isNull();
+        assertThat(ids(log.since(9))).containsExactly(10L);
+
+        log.record(event(11L));
+        assertThat(ids(log.since(9))).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void skipToContinuesAfterSkippedIds() {
+        RoomEventLog log = new RoomEventLog(8);
+        log.append("event", "1", null, null);
+        log.append("event", "2", null, null);
+
+        log.skipTo(100);
+        assertThat(log.append("event", "3", null, null).id()).isEqualTo(101L);
+        assertThat(log.since(2)).isNull();
+        assertThat(ids(log.since(100))).containsExactly(101L);
+
+        log.skipTo(50); // 이미 지난 id는 무시
+        assertThat(log.append("event", "4", null, null).id()).isEqualTo(102L);
+    }
+
+    @Test
+    void lastIdFollowsAppendRecordAndSkip() {
+        RoomEventLog log = new RoomEventLog(8);
+        assertThat(log.lastId()).isZero();
+
+        log.append("event", "1", null, null);
+        assertThat(log.lastId()).isEqualTo(1L);
+
+        log.record(event(5L));
+        assertThat(log.lastId()).isEqualTo(5L);
+
+        log.skipTo(100);
+        assertThat(log.lastId()).isEqualTo(100L);
+    }
+
+    private static RoomEvent event(long id) {
+        return new RoomEvent(id, "event", "data-" + id, null, null);
+    }
+
+    private static List<Long> ids(List<RoomEvent> events) {
+        return events.stream().map(RoomEvent::id).toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.coders.boardgame.domain.game.sse;
+
+import com.coders.boardgame.domain.game.enums.SlowConsumerPolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionTest {
+
+    private static final int CAPACITY = 2;
+
+    private final Deque<Runnable> writerTasks = new ArrayDeque<>(); // 직접 실행하는 writer
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    void framesAreSentInOrder() {
+        SseConnection connection = open(SlowConsumerPolicy.DROP);
+
+        connection.enqueue(frame("a", 1));
+        connection.enqueue(frame("b", 1));
+        runWriter();
+        connection.enqueue(frame("c", 1));
+        runWriter();
+
+        assertThat(emitter.sent).containsExactly("a1", "b1", "c1");
+    }
+
+    @Test
+    void dropPolicyDiscardsNewFrameWhenQueueIsFull() {
+        SseConnection connection = open(SlowConsumerPolicy.DROP);
+
+        connection.enqueue(frame("a", 1));
+        connection.enqueue(frame("b", 1));
+        connection.enqueue(frame("c", 1));
+        runWriter();
+
+        assertThat(emitter.sent).containsExactly("a1", "b1");
+        assertThat(connection.isClosed()).isFalse();
+    }
+
+    @Test
+    void coalescePolicyReplacesPendingSnapshotWithSameName() {
+        SseConnection connection = open(SlowConsumerPolicy.COALESCE);
+
+        connection.enqueue(frame("game-connected", 1));
+        connection.enqueue(frame("b", 1));
+        connection.enqueue(frame("game-connected", 2));
+        runWriter();
+
+        assertThat(emitter.sent).containsExactly("b1", "game-connected2");
+        assertThat(connection.isClosed()).isFalse();
+    }
+
+    @Test
+    void coalescePolicyDisconnectsInsteadOfDroppingOtherFrames() {
+        SseConnection connection = open(SlowConsumerPolicy.COALESCE);
+
+        connection.enqueue(frame("vote-result", 1));
+        connection.enqueue(frame("card-assigned", 1));
+        connection.enqueue(frame("vote-result", 2)); // 같은 이름이어도 스냅샷이 아니면 교체하지 않음
+        runWriter();
+
+        assertThat(listener.slowConsumers).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @Test
+    void coalescePolicyDisconnectsWhenSnapshotHasNothingToReplace() {
+        SseConnection connection = open(SlowConsumerPolicy.COALESCE);
+
+        connection.enqueue(frame("a", 1));
+        connection.enqueue(frame("b", 1));
+        connection.enqueue(frame("game-connected", 1));
+        runWriter();
+
+        assertThat(listener.slowConsumers).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    @Test
+    void disconnectPolicyClosesConnectionWhenQueueIsFull() {
+        SseConnection connection = open(SlowConsumerPolicy.DISCONNECT);
+
+        connection.enqueue(frame("a", 1));
+        connection.enqueue(frame("b", 1));
+        connection.enqueue(frame("c", 1));
+        runWriter();
+
+        assertThat(listener.slowConsumers).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(emitter.sent).isEmpty(); // 대기중이던 프레임도 버림
+
+        connection.enqueue(frame("d", 1));
+        runWriter();
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @Test
+    void heartbeatIsSkippedWhileFramesArePending() {
+        SseConnection connection = open(SlowConsumerPolicy.DROP);
+
+        connection.enqueue(frame("a", 1));
+        connection.sendHeartbeat(frame("heartbeat", 1));
+        runWriter();
+        connection.sendHeartbeat(frame("heartbeat", 2));
+        runWriter();
+
+        assertThat(emitter.sent).containsExactly("a1", "heartbeat2");
+    }
+
+    private SseConnection open(SlowConsumerPolicy policy) {
+        return new SseConnection("room", 1L, emitter, CAPACITY, policy, writerTasks::add, 0, null, listener);
+    }
+
+    private void runWriter() {
+        Runnable task;
+        while ((task = writerTasks.pollFirst()) != null) {
+            task.run();
+        }
+    }
+
+    private static SseEventFrame frame(String eventName, int n) {
+        return new SseEventFrame(eventName, (eventName + n).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 전송한 프레임 바이트를 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            for (DataWithMediaType item : items) {
+                sent.add(new String((byte[]) item.getData(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static class RecordingListener implements SseConnection.Listener {
+
+        private int slowConsumers;
+
+        @Override
+        public void onSendFailure(SseConnection connection, SseEventFrame frame, Exception e) {
+        }
+
+        @Override
+        public void onSlowConsumer(SseConnection connection) {
+            slowConsumers++;
+        }
+
+        @Override
+        public void onFlushed(SseConnection connection, SseEventFrame frame, long flushedNanos) {
+        }
+    }
+}